@@ -0,0 +1,170 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Fitness-proportionate selection strategy based on Vose's alias method. The
+ * selector builds an alias table from the fitness scores of a generation,
+ * after which each parent is picked in constant time with one random index
+ * and one random number.
+ * <p>
+ * The sampling distribution is the same as that of {@link DefaultSelector},
+ * which makes this selector preferable for very large populations or when many
+ * offspring are bred per generation. As with {@link DefaultSelector}, the two
+ * parents of a pair are never the same chromosome.
+ * {@link #select(Generation, double[])} builds the table on every call, while
+ * {@link #selectIndices(Generation, double[], int, int[])} builds it once for
+ * all the pairs, which is where the constant-time picks pay off.
+ * <p>
+ * Fitness scores must not be negative. If all of them are zero, parents are
+ * picked uniformly at random.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see DefaultSelector
+ */
+public class AliasTableSelector implements ISelector {
+
+  private final Random random;
+
+  /**
+   * Constructs an AliasTableSelector with a new Random instance.
+   */
+  public AliasTableSelector() {
+    this(new Random());
+  }
+
+  /**
+   * Constructs this chromosome pair selector.
+   * 
+   * @param random a pseudorandom number generator; cannot be {@code null}.
+   */
+  public AliasTableSelector(Random random) {
+    this.random = Objects.requireNonNull(random);
+  }
+
+  @Override
+  public ChromosomePair select(Generation generation, double[] fitnessScores) {
+
+    Selectors.checkScores(fitnessScores);
+    AliasTable table = new AliasTable(fitnessScores);
+    return Selectors.selectPair(generation, () -> table.select(random),
+      fitnessScores.length);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation builds the alias table once for all the pairs.
+   */
+  @Override
+  public void selectIndices(Generation generation, double[] fitnessScores,
+    int pairs, int[] out)
+  {
+    Selectors.checkIndices(fitnessScores, pairs, out);
+    AliasTable table = new AliasTable(fitnessScores);
+    Selectors.selectIndices(() -> table.select(random), fitnessScores.length,
+      pairs, out);
+  }
+
+  /**
+   * Alias table of the fitness scores of a generation. Each column {@code i}
+   * is chosen with equal probability and then resolves either to {@code i} or
+   * to its alias.
+   */
+  private static class AliasTable {
+
+    private final double[] probabilities;
+    private final int[] aliases;
+    private final boolean uniform;
+
+    AliasTable(double[] fitnessScores) {
+      final int n = fitnessScores.length;
+      double totalScore = 0;
+      for (int i = 0; i < n; i++) {
+        if (!(fitnessScores[i] >= 0))
+          throw new IllegalArgumentException(
+            "Invalid fitness score for alias selection: " + fitnessScores[i]);
+        totalScore += fitnessScores[i];
+      }
+
+      this.probabilities = new double[n];
+      this.aliases = new int[n];
+      this.uniform = totalScore == 0;
+      if (uniform)
+        return;
+
+      // Scale the probabilities so that their mean is 1 and split the columns
+      // into those below and those above the mean
+      int[] small = new int[n];
+      int[] large = new int[n];
+      int smallCount = 0;
+      int largeCount = 0;
+      for (int i = 0; i < n; i++) {
+        probabilities[i] = fitnessScores[i] * n / totalScore;
+        if (probabilities[i] < 1)
+          small[smallCount++] = i;
+        else
+          large[largeCount++] = i;
+      }
+
+      // Fill each small column up to 1 with the excess of a large one
+      while (smallCount > 0 && largeCount > 0) {
+        int less = small[--smallCount];
+        int more = large[--largeCount];
+        aliases[less] = more;
+        probabilities[more] = probabilities[more] + probabilities[less] - 1;
+        if (probabilities[more] < 1)
+          small[smallCount++] = more;
+        else
+          large[largeCount++] = more;
+      }
+
+      // Whatever remains is full up to rounding errors
+      while (largeCount > 0)
+        probabilities[large[--largeCount]] = 1;
+      while (smallCount > 0)
+        probabilities[small[--smallCount]] = 1;
+    }
+
+    int select(Random random) {
+      int column = random.nextInt(probabilities.length);
+      if (uniform || random.nextDouble() < probabilities[column])
+        return column;
+      return aliases[column];
+    }
+  }
+}
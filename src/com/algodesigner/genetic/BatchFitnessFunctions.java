@@ -0,0 +1,227 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Batch fitness functions that evaluate a generation concurrently with
+ * single-chromosome or asynchronous fitness functions. They back the
+ * evaluation settings of {@link EvolutionEngineBuilder}, so that
+ * {@link EvolutionEngine} only deals with batch evaluation. Like all batch
+ * fitness functions, they only evaluate the chromosomes whose scores are NaN.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see IBatchFitnessFunction
+ */
+final class BatchFitnessFunctions {
+
+  private BatchFitnessFunctions() {
+  }
+
+  /**
+   * Returns a batch fitness function that evaluates a generation on a
+   * fork/join pool, in ranges of chromosomes sized for the parallelism of the
+   * pool.
+   * 
+   * @param fitnessFunction the fitness function
+   * @param pool the fork/join pool
+   * @return the batch fitness function
+   */
+  static IBatchFitnessFunction onPool(IFitnessFunction fitnessFunction,
+    ForkJoinPool pool)
+  {
+    return (generation, fitnessScores) -> pool.invoke(new EvaluationTask(
+      fitnessFunction, generation, fitnessScores, 0, fitnessScores.length,
+      Math.max(1, fitnessScores.length / (pool.getParallelism() * 4))));
+  }
+
+  /**
+   * Returns a batch fitness function that evaluates every chromosome as a
+   * separate task on an executor, with a bounded number of tasks running at
+   * once. A permit is acquired before each task is submitted, so no more tasks
+   * than the concurrency limit are ever pending. No task is submitted after the
+   * first failure, which is rethrown only once all the tasks already submitted
+   * have completed, so none of them writes a score after the batch returns.
+   * 
+   * @param fitnessFunction the fitness function
+   * @param executor the executor
+   * @param maxConcurrentEvaluations the maximum number of concurrent tasks
+   * @return the batch fitness function
+   */
+  static IBatchFitnessFunction onExecutor(IFitnessFunction fitnessFunction,
+    Executor executor, int maxConcurrentEvaluations)
+  {
+    Semaphore permits = new Semaphore(maxConcurrentEvaluations);
+    return (generation, fitnessScores) -> {
+      Semaphore completed = new Semaphore(0);
+      AtomicReference<Throwable> failure = new AtomicReference<>();
+      int submitted = 0;
+      try {
+        for (int i = 0; i < fitnessScores.length; i++) {
+          if (!Double.isNaN(fitnessScores[i]))
+            continue;
+          permits.acquire();
+          if (failure.get() != null) {
+            permits.release();
+            break;
+          }
+          int index = i;
+          try {
+            executor.execute(() -> {
+              try {
+                fitnessScores[index] =
+                  fitnessFunction.apply(generation.getChromosome(index));
+              } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+              } finally {
+                permits.release();
+                completed.release();
+              }
+            });
+          } catch (RuntimeException e) {
+            permits.release();
+            failure.compareAndSet(null, e);
+            break;
+          }
+          submitted++;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failure.compareAndSet(null, new IllegalStateException(
+          "Interrupted while evaluating fitness", e));
+      }
+      completed.acquireUninterruptibly(submitted);
+      rethrow(failure.get());
+    };
+  }
+
+  /**
+   * Returns a batch fitness function that starts the asynchronous evaluations
+   * of a generation before waiting for any of them. A failed evaluation
+   * rethrows its cause, and a null score is rejected.
+   * 
+   * @param asyncFitnessFunction the asynchronous fitness function
+   * @return the batch fitness function
+   */
+  static IBatchFitnessFunction async(
+    IAsyncFitnessFunction asyncFitnessFunction)
+  {
+    return (generation, fitnessScores) -> {
+      @SuppressWarnings({ "rawtypes", "unchecked" })
+      CompletableFuture<Double>[] futures =
+        new CompletableFuture[fitnessScores.length];
+      for (int i = 0; i < fitnessScores.length; i++) {
+        if (Double.isNaN(fitnessScores[i]))
+          futures[i] =
+            asyncFitnessFunction.applyAsync(generation.getChromosome(i));
+      }
+      for (int i = 0; i < futures.length; i++) {
+        if (futures[i] == null)
+          continue;
+        Double score;
+        try {
+          score = futures[i].join();
+        } catch (CompletionException e) {
+          rethrow(e.getCause());
+          throw e;
+        }
+        if (score == null)
+          throw new IllegalStateException(
+            "Invalid score (null) for chromosome: "
+              + generation.getChromosome(i));
+        fitnessScores[i] = score;
+      }
+    };
+  }
+
+  private static void rethrow(Throwable t) {
+    if (t instanceof RuntimeException)
+      throw (RuntimeException)t;
+    if (t instanceof Error)
+      throw (Error)t;
+    if (t != null)
+      throw new IllegalStateException(t);
+  }
+
+  /**
+   * Fork/join task that evaluates the fitness of a range of chromosomes whose
+   * scores are not known yet (NaN), splitting the range in halves until it is
+   * no longer than the threshold.
+   */
+  private static class EvaluationTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 0;
+
+    private final IFitnessFunction fitnessFunction;
+    private final Generation generation;
+    private final double[] fitnessScores;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    EvaluationTask(IFitnessFunction fitnessFunction, Generation generation,
+      double[] fitnessScores, int from, int to, int threshold)
+    {
+      this.fitnessFunction = fitnessFunction;
+      this.generation = generation;
+      this.fitnessScores = fitnessScores;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        for (int i = from; i < to; i++) {
+          if (Double.isNaN(fitnessScores[i]))
+            fitnessScores[i] =
+              fitnessFunction.apply(generation.getChromosome(i));
+        }
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(new EvaluationTask(fitnessFunction, generation, fitnessScores,
+          from, middle, threshold), new EvaluationTask(fitnessFunction,
+            generation, fitnessScores, middle, to, threshold));
+      }
+    }
+  }
+}
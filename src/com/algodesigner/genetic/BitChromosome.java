@@ -0,0 +1,223 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Arrays;
+
+/**
+ * A chromosome whose genes are bits, packed 64 to a {@code long}.
+ * <p>
+ * The genes of a {@code BitChromosome} have {@link Boolean} values. They are
+ * created on request by {@link #getGene(int)} and {@link #getGenes()}, while
+ * crossover and mutation between bit chromosomes operate on whole words where
+ * possible. The string representation of a bit chromosome consists of the
+ * characters {@code '0'} and {@code '1'}.
+ * <p>
+ * <strong>Example usage:</strong>
+ * 
+ * <pre>
+ * BitChromosome chromosome = new BitChromosome("0110");
+ * boolean bit = chromosome.getBit(1); // true
+ * </pre>
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see Chromosome
+ */
+public final class BitChromosome extends Chromosome {
+
+  private final long[] words;
+  private final int length;
+
+  /**
+   * Constructs a BitChromosome from a string of {@code '0'} and {@code '1'}
+   * characters.
+   * 
+   * @param bitString string representation of the bits
+   * @throws IllegalArgumentException if {@code bitString} is {@code null} or
+   *         contains other characters
+   */
+  public BitChromosome(String bitString) {
+    if (bitString == null)
+      throw new IllegalArgumentException("null");
+    this.length = bitString.length();
+    this.words = new long[wordCount(length)];
+    for (int i = 0; i < length; i++) {
+      char c = bitString.charAt(i);
+      if (c == '1')
+        words[i >>> 6] |= 1L << i;
+      else if (c != '0')
+        throw new IllegalArgumentException("Invalid bit: " + c);
+    }
+  }
+
+  /**
+   * Constructs a BitChromosome from an array of booleans.
+   * 
+   * @param bits the bits that constitute this chromosome
+   * @throws IllegalArgumentException if {@code bits} is {@code null}
+   */
+  public BitChromosome(boolean[] bits) {
+    if (bits == null)
+      throw new IllegalArgumentException("null");
+    this.length = bits.length;
+    this.words = new long[wordCount(length)];
+    for (int i = 0; i < length; i++) {
+      if (bits[i])
+        words[i >>> 6] |= 1L << i;
+    }
+  }
+
+  /**
+   * Constructs a BitChromosome from packed words, bit {@code i} being bit
+   * {@code i % 64} of word {@code i / 64}. The chromosome assumes ownership of
+   * the array and does not copy it, so callers should not modify it after
+   * construction. Bits beyond {@code length} must be zero, so that equal genes
+   * always have equal words.
+   * 
+   * @param words the packed bits
+   * @param length the number of bits
+   * @throws IllegalArgumentException if {@code words} is {@code null}, its
+   *         length does not match {@code length}, or a bit beyond
+   *         {@code length} is set
+   */
+  public BitChromosome(long[] words, int length) {
+    if (words == null)
+      throw new IllegalArgumentException("null");
+    if (length < 0 || words.length != wordCount(length))
+      throw new IllegalArgumentException("Invalid length: " + length);
+    if ((length & 63) != 0 && words[words.length - 1] >>> (length & 63) != 0)
+      throw new IllegalArgumentException("Bits set beyond length: " + length);
+    this.words = words;
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the bit at a specific index.
+   * 
+   * @param index the index of the gene
+   * @return the bit
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public boolean getBit(int index) {
+    if (index < 0 || index >= length)
+      throw new IndexOutOfBoundsException("Index: " + index);
+    return (words[index >>> 6] & 1L << index) != 0;
+  }
+
+  /**
+   * Returns a copy of the packed bits of this chromosome.
+   * 
+   * @return an array of words
+   * @see #BitChromosome(long[], int)
+   */
+  public long[] toLongArray() {
+    return words.clone();
+  }
+
+  @Override
+  public Gene getGene(int index) {
+    return Gene.of(getBit(index));
+  }
+
+  @Override
+  public Gene[] getGenes() {
+    Gene[] genes = new Gene[length];
+    for (int i = 0; i < genes.length; i++)
+      genes[i] = Gene.of(getBit(i));
+    return genes;
+  }
+
+  @Override
+  public ChromosomePair crossover(Chromosome chromosome, int position) {
+    if (!(chromosome instanceof BitChromosome) || !isCompatible(chromosome))
+      return super.crossover(chromosome, position);
+    long[] other = ((BitChromosome)chromosome).words;
+    long[] words1 = words.clone();
+    long[] words2 = other.clone();
+    int word = position >>> 6;
+    if (word < words.length) {
+      // Bits from the crossover point onwards come from the other parent
+      long mask = -1L << position;
+      words1[word] = words[word] & ~mask | other[word] & mask;
+      words2[word] = other[word] & ~mask | words[word] & mask;
+      int tail = words.length - word - 1;
+      System.arraycopy(other, word + 1, words1, word + 1, tail);
+      System.arraycopy(words, word + 1, words2, word + 1, tail);
+    }
+    return new ChromosomePair(new BitChromosome(words1, length),
+      new BitChromosome(words2, length));
+  }
+
+  @Override
+  public Chromosome swapGenes(int index1, int index2) {
+    long[] copies = words.clone();
+    if (getBit(index1) != getBit(index2)) {
+      copies[index1 >>> 6] ^= 1L << index1;
+      copies[index2 >>> 6] ^= 1L << index2;
+    }
+    return new BitChromosome(copies, length);
+  }
+
+  @Override
+  protected int computeHashCode() {
+    int h = 1;
+    for (int i = 0; i < length; i++)
+      h = 31 * h + Boolean.hashCode((words[i >>> 6] & 1L << i) != 0);
+    return h;
+  }
+
+  @Override
+  protected boolean equalGenes(Chromosome chromosome) {
+    if (chromosome instanceof BitChromosome)
+      return Arrays.equals(words, ((BitChromosome)chromosome).words);
+    return super.equalGenes(chromosome);
+  }
+
+  @Override
+  public String toString() {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++)
+      chars[i] = getBit(i) ? '1' : '0';
+    return new String(chars);
+  }
+
+  private static int wordCount(int length) {
+    return (length + 63) >>> 6;
+  }
+}
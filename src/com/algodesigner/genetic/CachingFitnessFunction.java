@@ -0,0 +1,203 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fitness function decorator that memoises the scores of the decorated
+ * function by chromosome content. Chromosomes with equal genes are evaluated
+ * once for as long as their score stays in the cache; lookups rely on the
+ * cached hash codes of {@link Chromosome}.
+ * <p>
+ * Evolution frequently re-evaluates identical chromosomes: elite copies,
+ * parents passed through unchanged when crossover is not applied, unmutated
+ * offspring and duplicates in converged populations. For expensive fitness
+ * functions caching can save a large share of the evaluations. The decorated
+ * function must be deterministic.
+ * <p>
+ * The cache holds at most {@code capacity} scores and evicts either the least
+ * recently used or the oldest entry when it is full. Hits and misses are
+ * counted to help tune the capacity. This class is thread-safe provided the
+ * decorated function is. {@link MutableChromosome} instances are cached by an
+ * immutable copy, as the engine recycles them.
+ * <p>
+ * <strong>Example usage:</strong>
+ * 
+ * <pre>
+ * CachingFitnessFunction fitnessFunction =
+ *   new CachingFitnessFunction(new MyFitnessFunction(), 10000);
+ * EvolutionEngine engine = new EvolutionEngine(initialGeneration, 0.8, 0.01,
+ *   fitnessFunction);
+ * engine.findSolution(0.95, criteria);
+ * System.out.println("Hits: " + fitnessFunction.getHitCount());
+ * </pre>
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see IFitnessFunction
+ */
+public class CachingFitnessFunction implements IFitnessFunction {
+
+  /**
+   * Policies for choosing the entry to evict from a full cache.
+   */
+  public enum EvictionPolicy {
+
+    /**
+     * Evicts the least recently used entry.
+     */
+    LRU,
+
+    /**
+     * Evicts the oldest entry, regardless of how recently it was used.
+     */
+    FIFO
+  }
+
+  private final IFitnessFunction fitnessFunction;
+  private final int capacity;
+  private final Map<Chromosome, Double> scores;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * Constructs this fitness function with the LRU eviction policy.
+   * 
+   * @param fitnessFunction the fitness function to decorate; cannot be
+   *        {@code null}.
+   * @param capacity the maximum number of cached scores; must be positive.
+   */
+  public CachingFitnessFunction(IFitnessFunction fitnessFunction,
+    int capacity)
+  {
+    this(fitnessFunction, capacity, EvictionPolicy.LRU);
+  }
+
+  /**
+   * Constructs this fitness function.
+   * 
+   * @param fitnessFunction the fitness function to decorate; cannot be
+   *        {@code null}.
+   * @param capacity the maximum number of cached scores; must be positive.
+   * @param evictionPolicy the eviction policy; cannot be {@code null}.
+   */
+  public CachingFitnessFunction(IFitnessFunction fitnessFunction, int capacity,
+    EvictionPolicy evictionPolicy)
+  {
+    if (capacity < 1)
+      throw new IllegalArgumentException("capacity must be positive");
+    this.fitnessFunction = Objects.requireNonNull(fitnessFunction);
+    this.capacity = capacity;
+    this.scores = new LinkedHashMap<Chromosome, Double>(16, 0.75f,
+      Objects.requireNonNull(evictionPolicy) == EvictionPolicy.LRU) {
+
+      private static final long serialVersionUID = 0;
+
+      @Override
+      protected boolean removeEldestEntry(
+        Map.Entry<Chromosome, Double> eldest)
+      {
+        return size() > CachingFitnessFunction.this.capacity;
+      }
+    };
+  }
+
+  @Override
+  public double apply(Chromosome chromosome) {
+    Chromosome key = Objects.requireNonNull(chromosome);
+    Double score;
+    synchronized (scores) {
+      score = scores.get(key);
+    }
+    if (score != null) {
+      hitCount.increment();
+      return score;
+    }
+    missCount.increment();
+
+    // Evaluate outside the lock so that concurrent evaluations can proceed
+    double newScore = fitnessFunction.apply(chromosome);
+
+    // Recycled chromosomes are overwritten later, so keep a copy of their genes
+    if (chromosome instanceof MutableChromosome)
+      key = ((MutableChromosome)chromosome).toChromosome();
+    synchronized (scores) {
+      scores.put(key, newScore);
+    }
+    return newScore;
+  }
+
+  /**
+   * Returns the number of evaluations answered from the cache.
+   * 
+   * @return the number of cache hits
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of evaluations delegated to the decorated function.
+   * 
+   * @return the number of cache misses
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of scores currently held in the cache.
+   * 
+   * @return the number of cached scores
+   */
+  public int size() {
+    synchronized (scores) {
+      return scores.size();
+    }
+  }
+
+  /**
+   * Removes all the cached scores and resets the hit and miss counters.
+   */
+  public void clear() {
+    synchronized (scores) {
+      scores.clear();
+    }
+    hitCount.reset();
+    missCount.reset();
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Arrays;
+
+/**
+ * A chromosome whose genes are characters, stored in a {@code char} array.
+ * <p>
+ * A {@code CharChromosome} holds the same genes as a {@link Chromosome}
+ * constructed from the same string, i.e. genes whose values are
+ * {@link Character} objects, but it does not keep a {@link Gene} object for
+ * every position. Genes are created on request by {@link #getGene(int)} and
+ * {@link #getGenes()}, while crossover and mutation between character
+ * chromosomes operate directly on the characters.
+ * <p>
+ * A character chromosome is also a {@link CharSequence} of its genes, so
+ * fitness functions decoding its characters can read them without creating a
+ * string.
+ * <p>
+ * <strong>Example usage:</strong>
+ * 
+ * <pre>
+ * Chromosome chromosome = new CharChromosome("123456789");
+ * char c = ((CharChromosome)chromosome).charAt(0);
+ * </pre>
+ * 
+ * @author Vlad Shurupov
+ * @version 1.1
+ * @see Chromosome
+ */
+public final class CharChromosome extends Chromosome implements CharSequence {
+
+  private final char[] chars;
+
+  /**
+   * Constructs a CharChromosome from a string, each character of which
+   * becomes a gene.
+   * 
+   * @param geneString string representation of genes
+   * @throws IllegalArgumentException if {@code geneString} is {@code null}
+   */
+  public CharChromosome(String geneString) {
+    if (geneString == null)
+      throw new IllegalArgumentException("null");
+    this.chars = geneString.toCharArray();
+  }
+
+  /**
+   * Constructs a CharChromosome from an array of characters. The chromosome
+   * assumes ownership of the array and does not copy it, so callers should not
+   * modify it after construction.
+   * 
+   * @param chars the characters that constitute this chromosome
+   * @throws IllegalArgumentException if {@code chars} is {@code null}
+   */
+  public CharChromosome(char[] chars) {
+    if (chars == null)
+      throw new IllegalArgumentException("null");
+    this.chars = chars;
+  }
+
+  @Override
+  public int length() {
+    return chars.length;
+  }
+
+  /**
+   * Returns the character at a specific index.
+   * 
+   * @param index the index of the gene
+   * @return the character
+   */
+  @Override
+  public char charAt(int index) {
+    return chars[index];
+  }
+
+  /**
+   * Returns a copy of the characters of this chromosome.
+   * 
+   * @return an array of characters
+   */
+  public char[] toCharArray() {
+    return chars.clone();
+  }
+
+  /**
+   * Returns the characters from {@code start} (inclusive) to {@code end}
+   * (exclusive) as a new string.
+   * 
+   * @param start the start index
+   * @param end the end index
+   * @return the characters in the range
+   */
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return new String(chars, start, end - start);
+  }
+
+  /**
+   * Returns this chromosome, which is its own character sequence.
+   * 
+   * @return this chromosome
+   */
+  @Override
+  public CharSequence getCharSequence() {
+    return this;
+  }
+
+  @Override
+  public Gene getGene(int index) {
+    return Gene.of(chars[index]);
+  }
+
+  @Override
+  public Gene[] getGenes() {
+    Gene[] genes = new Gene[chars.length];
+    for (int i = 0; i < genes.length; i++)
+      genes[i] = Gene.of(chars[i]);
+    return genes;
+  }
+
+  @Override
+  public ChromosomePair crossover(Chromosome chromosome, int position) {
+    if (!(chromosome instanceof CharChromosome) || !isCompatible(chromosome))
+      return super.crossover(chromosome, position);
+    char[] other = ((CharChromosome)chromosome).chars;
+    int tail = chars.length - position;
+    char[] chars1 = new char[chars.length];
+    char[] chars2 = new char[chars.length];
+    System.arraycopy(chars, 0, chars1, 0, position);
+    System.arraycopy(other, position, chars1, position, tail);
+    System.arraycopy(other, 0, chars2, 0, position);
+    System.arraycopy(chars, position, chars2, position, tail);
+    return new ChromosomePair(new CharChromosome(chars1),
+      new CharChromosome(chars2));
+  }
+
+  @Override
+  public Chromosome swapGenes(int index1, int index2) {
+    char[] copies = chars.clone();
+    char temp = copies[index1];
+    copies[index1] = copies[index2];
+    copies[index2] = temp;
+    return new CharChromosome(copies);
+  }
+
+  @Override
+  protected int computeHashCode() {
+    int h = 1;
+    for (int i = 0; i < chars.length; i++)
+      h = 31 * h + chars[i];
+    return h;
+  }
+
+  @Override
+  protected boolean equalGenes(Chromosome chromosome) {
+    if (chromosome instanceof CharChromosome)
+      return Arrays.equals(chars, ((CharChromosome)chromosome).chars);
+    return super.equalGenes(chromosome);
+  }
+
+  @Override
+  public String toString() {
+    return new String(chars);
+  }
+}
@@ -32,6 +32,10 @@
  */
 package com.algodesigner.genetic;
 
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
 /**
  * Represents a chromosome in a genetic algorithm, consisting of an immutable
  * sequence of {@link Gene} objects.
@@ -77,8 +81,27 @@ package com.algodesigner.genetic;
  * Gene gene = chromosome.getGene(0);
  * }</pre>
  * 
+ * <p>
+ * This class stores its genes as an array of {@link Gene} objects. Large
+ * populations of chromosomes over primitive alphabets can use the
+ * primitive-backed subclasses {@link CharChromosome}, {@link IntChromosome},
+ * {@link DoubleChromosome} and {@link BitChromosome} instead, which keep their
+ * genes in primitive arrays and only create {@link Gene} objects on request.
+ * Subclasses with their own storage override the accessors of this class as
+ * well as {@link #crossover(Chromosome, int)} and {@link #swapGenes(int, int)},
+ * which the default genetic operators are built on.
+ * </p>
+ * 
+ * <p>
+ * Chromosomes are equal if they contain equal genes in the same order,
+ * regardless of how they store them, so a {@link CharChromosome} equals a
+ * {@code Chromosome} constructed from the same string. The hash code is
+ * computed once and cached, which makes chromosomes cheap keys for caches,
+ * deduplication and tabu structures.
+ * </p>
+ * 
  * @author Vlad Shurupov
- * @version 1.02
+ * @version 1.06
  * @see Gene
  * @see ChromosomePair
  * @see ICrossoverStrategy
@@ -88,6 +111,9 @@ public class Chromosome {
 
   private final Gene[] genes;
 
+  // Lazily computed hash code; zero until computed
+  private int hash;
+
   /**
    * Constructs a Chromosome from a string representation where each character
    * corresponds to a gene value.
@@ -143,6 +169,15 @@ public class Chromosome {
     this.genes = genes;
   }
 
+  /**
+   * Constructs a Chromosome for a subclass that keeps its genes in its own
+   * storage. Such a subclass must override all the methods of this class that
+   * access the genes.
+   */
+  protected Chromosome() {
+    this.genes = null;
+  }
+
   /**
    * Returns the length of the chromosome.
    * 
@@ -163,7 +198,9 @@ public class Chromosome {
   }
 
   /**
-   * Returns the genes contained in this chromosome.
+   * Returns a copy of the genes contained in this chromosome. Callers that only
+   * read the genes should use {@link #getGeneList()}, which does not copy
+   * them.
    * 
    * @return an array of genes
    */
@@ -173,6 +210,36 @@ public class Chromosome {
     return geneCopies;
   }
 
+  /**
+   * Returns a read-only view of the genes of this chromosome. The view is
+   * backed by the chromosome, so no genes are copied, and it reflects later
+   * changes to a {@link MutableChromosome}. It supports fast random access and
+   * throws {@link UnsupportedOperationException} on any attempt to modify it.
+   * 
+   * @return an unmodifiable list view of the genes
+   * @see #getGenes()
+   */
+  public List<Gene> getGeneList() {
+    return new GeneList(this);
+  }
+
+  /**
+   * Returns a read-only character sequence view of the genes of this
+   * chromosome, for chromosomes whose gene values are {@link Character}
+   * objects, such as those constructed from strings. The view is backed by the
+   * chromosome and does not copy the genes, so fitness functions that decode
+   * characters can read them without building a string with
+   * {@link #toString()}. Reading a gene whose value is not a character throws
+   * {@link ClassCastException}.
+   * <p>
+   * {@link CharChromosome} overrides this method to return itself.
+   * 
+   * @return a character sequence view of the genes
+   */
+  public CharSequence getCharSequence() {
+    return new GeneCharSequence(this);
+  }
+
   /**
    * Tests if this chromosome is compatible with a given chromosome.
    * 
@@ -183,6 +250,125 @@ public class Chromosome {
     return chromosome != null && length() == chromosome.length();
   }
 
+  /**
+   * Performs a single-point crossover with the specified chromosome, producing
+   * a pair of children. The first child consists of the genes of this
+   * chromosome up to {@code position} (exclusive) followed by the genes of the
+   * specified chromosome from {@code position} onwards; the second child is
+   * its complement. Neither parent is modified.
+   * <p>
+   * Subclasses with their own storage override this method to combine
+   * compatible chromosomes of the same type without creating {@link Gene}
+   * objects.
+   * 
+   * @param chromosome the other parent; must be compatible with this
+   *        chromosome
+   * @param position the crossover point, between {@code 0} and
+   *        {@code length() - 1}
+   * @return the pair of children
+   * @throws IncompatibleChromosomeException if the chromosomes are not
+   *         compatible
+   * @see #isCompatible(Chromosome)
+   */
+  public ChromosomePair crossover(Chromosome chromosome, int position) {
+    if (!isCompatible(chromosome))
+      throw new IncompatibleChromosomeException(
+        "Crossover cannot be performed as chromosomes are not compatible");
+    Gene[] geneSet1 = getGenes();
+    Gene[] geneSet2 = chromosome.getGenes();
+    for (int i = position; i < geneSet1.length; i++) {
+      Gene temp = geneSet1[i];
+      geneSet1[i] = geneSet2[i];
+      geneSet2[i] = temp;
+    }
+    return new ChromosomePair(new Chromosome(geneSet1),
+      new Chromosome(geneSet2));
+  }
+
+  /**
+   * Returns a copy of this chromosome with the genes at the specified positions
+   * swapped. This chromosome is not modified.
+   * 
+   * @param index1 the position of the first gene
+   * @param index2 the position of the second gene
+   * @return a new chromosome with the two genes swapped
+   */
+  public Chromosome swapGenes(int index1, int index2) {
+    Gene[] geneCopies = getGenes();
+    Gene temp = geneCopies[index1];
+    geneCopies[index1] = geneCopies[index2];
+    geneCopies[index2] = temp;
+    return new Chromosome(geneCopies);
+  }
+
+  /**
+   * Tests if this chromosome contains the same genes as a given object. The
+   * cached hash codes are compared first, so unequal chromosomes are usually
+   * told apart without comparing their genes.
+   * 
+   * @param object the object to compare with
+   * @return true, if the object is a chromosome with equal genes in the same
+   *         order
+   * @see #hashCode()
+   */
+  @Override
+  public boolean equals(Object object) {
+    if (object == this)
+      return true;
+    if (!(object instanceof Chromosome))
+      return false;
+    Chromosome chromosome = (Chromosome)object;
+    return length() == chromosome.length()
+      && hashCode() == chromosome.hashCode() && equalGenes(chromosome);
+  }
+
+  /**
+   * Returns the hash code of this chromosome, computed by
+   * {@link #computeHashCode()} on the first call and cached afterwards.
+   * 
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      h = computeHashCode();
+      hash = h;
+    }
+    return h;
+  }
+
+  /**
+   * Computes the hash code of this chromosome from its genes, in the same way
+   * as {@link java.util.Arrays#hashCode(Object[])} does for the array returned
+   * by {@link #getGenes()}. Subclasses with their own storage may override this
+   * method to compute the same value without creating {@link Gene} objects.
+   * 
+   * @return the hash code
+   */
+  protected int computeHashCode() {
+    int h = 1;
+    for (int i = 0, n = length(); i < n; i++)
+      h = 31 * h + getGene(i).hashCode();
+    return h;
+  }
+
+  /**
+   * Tests if this chromosome contains the same genes as a given chromosome of
+   * the same length. Subclasses with their own storage may override this
+   * method to compare chromosomes of their own type directly.
+   * 
+   * @param chromosome the chromosome to compare with
+   * @return true, if the genes are equal
+   */
+  protected boolean equalGenes(Chromosome chromosome) {
+    for (int i = 0, n = length(); i < n; i++) {
+      if (!getGene(i).equals(chromosome.getGene(i)))
+        return false;
+    }
+    return true;
+  }
+
   @Override
   public String toString() {
     StringBuilder builder = new StringBuilder(32);
@@ -192,7 +378,63 @@ public class Chromosome {
   }
 
   /**
-   * Converts a string into a gene sequence.
+   * Read-only list view of the genes of a chromosome.
+   */
+  private static final class GeneList extends AbstractList<Gene>
+    implements RandomAccess
+  {
+    private final Chromosome chromosome;
+
+    GeneList(Chromosome chromosome) {
+      this.chromosome = chromosome;
+    }
+
+    @Override
+    public Gene get(int index) {
+      return chromosome.getGene(index);
+    }
+
+    @Override
+    public int size() {
+      return chromosome.length();
+    }
+  }
+
+  /**
+   * Character sequence view of the genes of a chromosome.
+   */
+  private static final class GeneCharSequence implements CharSequence {
+
+    private final Chromosome chromosome;
+
+    GeneCharSequence(Chromosome chromosome) {
+      this.chromosome = chromosome;
+    }
+
+    @Override
+    public int length() {
+      return chromosome.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+      return ((Character)chromosome.getGene(index).getValue()).charValue();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return chromosome.toString();
+    }
+  }
+
+  /**
+   * Converts a string into a gene sequence. Genes of equal characters are
+   * shared.
    * 
    * @param geneString a string with each character representing a gene.
    * @return a gene sequence.
@@ -202,7 +444,7 @@ public class Chromosome {
       throw new IllegalArgumentException("null");
     Gene[] genes = new Gene[geneString.length()];
     for (int i = 0; i < genes.length; i++)
-      genes[i] = new Gene(geneString.charAt(i));
+      genes[i] = Gene.of(geneString.charAt(i));
     return genes;
   }
 }
@@ -32,6 +32,20 @@
  */
 package com.algodesigner.genetic;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
 /**
  * An advanced evolution engine that implements the island model genetic
  * algorithm, maintaining multiple independent subpopulations (islands) that
@@ -70,20 +84,48 @@ package com.algodesigner.genetic;
  * int solutionIndex = engine.findSolution(0.95, null);
  * </pre>
  * <p>
+ * By default, {@link #findSolution(double, TerminationCriteria)} evolves the
+ * sub-engines one after another on the calling thread, each of them with the
+ * full termination criteria. Once an executor service is set with
+ * {@link #setExecutorService(ExecutorService)}, it runs them concurrently on
+ * that executor service instead. The concurrent sub-engines share a single
+ * deadline and generation limit, and as soon as one of them reaches the
+ * fitness target the others stop after their current generation. Sub-engines
+ * built by the constructors that take strategy instances share their selector
+ * and genetic operators, which must then be thread-safe; the default
+ * implementations are. The constructors that take
+ * strategy factories and a seed give every sub-engine its own strategy
+ * instances and independent random number streams derived from the seed,
+ * which avoids contention on a shared {@link java.util.Random} and makes the
+ * evolution of each sub-engine reproducible. All the sub-engines evaluate
+ * their chromosomes with the same {@link IFitnessFunction}, which running them
+ * concurrently calls from several threads at once, so it must then be
+ * thread-safe, for instance stateless or confined to thread-local scratch
+ * state.
+ * <p>
+ * By default the sub-engines evolve in isolation. With a
+ * {@link MigrationPolicy} set, they periodically exchange their fittest
+ * chromosomes during {@link #findSolution(double, TerminationCriteria)}
+ * through lock-free queues, one per island, so the islands benefit from each
+ * other's progress without waiting for one another.
+ * <p>
  * This implementation is particularly effective for complex optimisation
  * problems where maintaining population diversity is challenging.
  * 
  * @author Vlad Shurupov
- * @version 1.0
+ * @version 1.2
  * @see EvolutionEngine
  * @see IEvolutionEngine
  * @see Generation
+ * @see MigrationPolicy
  */
 public class CompositeEvolutionEngine implements IEvolutionEngine {
 
   private final IEvolutionEngine[] engines;
   private Generation generation;
-  private IEvolutionEngine bestEngine;
+  private volatile IEvolutionEngine bestEngine;
+  private ExecutorService executorService;
+  private MigrationPolicy migrationPolicy;
 
   /**
    * Constructs a composite evolution engine with fully customisable components
@@ -152,30 +194,201 @@ public class CompositeEvolutionEngine implements IEvolutionEngine {
       elitismEnabled, numOfAgents);
   }
 
+  /**
+   * Constructs a composite evolution engine whose sub-engines have their own
+   * selector and genetic operators, created by the specified factories.
+   * <p>
+   * Each factory is given an independent pseudorandom number generator split
+   * off a master generator initialised with {@code seed}, so no generator is
+   * shared between strategies or sub-engines. Composite engines constructed
+   * with the same seed and configuration evolve their sub-engines identically
+   * as long as migration is disabled. The generators are not
+   * thread-safe; each of them is only meant to be used by the thread evolving
+   * its sub-engine.
+   * 
+   * @param generation the initial generation shared by all sub-engines
+   * @param selectorFactory the factory of selectors
+   * @param crossoverStrategyFactory the factory of crossover strategies
+   * @param mutationStrategyFactory the factory of mutation strategies
+   * @param fitnessFunction the function that evaluates chromosome fitness
+   * @param elitismEnabled {@code true} to preserve best chromosomes in each
+   *        island
+   * @param numOfAgents the number of parallel evolution engines (islands) to
+   *        create
+   * @param seed the master seed of the random number streams
+   * @throws NullPointerException if any parameter is {@code null}
+   * @throws NegativeArraySizeException if {@code numOfAgents} is negative
+   */
+  public CompositeEvolutionEngine(Generation generation,
+    Function<Random, ISelector> selectorFactory,
+    Function<Random, ICrossoverStrategy> crossoverStrategyFactory,
+    Function<Random, IMutationStrategy> mutationStrategyFactory,
+    IFitnessFunction fitnessFunction, boolean elitismEnabled, int numOfAgents,
+    long seed)
+  {
+    Objects.requireNonNull(selectorFactory);
+    Objects.requireNonNull(crossoverStrategyFactory);
+    Objects.requireNonNull(mutationStrategyFactory);
+    this.generation = generation;
+    this.engines = new IEvolutionEngine[numOfAgents];
+    SplittableRandomAdapter masterRandom = new SplittableRandomAdapter(seed);
+    for (int i = 0; i < numOfAgents; i++) {
+      SplittableRandomAdapter agentRandom = masterRandom.split();
+      this.engines[i] = createEngine(generation,
+        selectorFactory.apply(agentRandom.split()),
+        crossoverStrategyFactory.apply(agentRandom.split()),
+        mutationStrategyFactory.apply(agentRandom.split()), fitnessFunction,
+        elitismEnabled);
+    }
+  }
+
+  /**
+   * Constructs a composite evolution engine with default strategies, each
+   * sub-engine having its own strategy instances and random number streams
+   * derived from {@code seed}.
+   * 
+   * @param generation the initial generation shared by all sub-engines
+   * @param crossoverRate the probability of crossover occurring (0.0 to 1.0)
+   * @param mutationRate the probability of mutation occurring (0.0 to 1.0)
+   * @param fitnessFunction the function that evaluates chromosome fitness
+   * @param elitismEnabled {@code true} to preserve best chromosomes in each
+   *        island
+   * @param numOfAgents the number of parallel evolution engines (islands) to
+   *        create
+   * @param seed the master seed of the random number streams
+   * @throws NullPointerException if any parameter is {@code null}
+   * @throws NegativeArraySizeException if {@code numOfAgents} is negative
+   * @see #CompositeEvolutionEngine(Generation, Function, Function, Function,
+   *      IFitnessFunction, boolean, int, long)
+   */
+  public CompositeEvolutionEngine(Generation generation, double crossoverRate,
+    double mutationRate, IFitnessFunction fitnessFunction,
+    boolean elitismEnabled, int numOfAgents, long seed)
+  {
+    this(generation, DefaultSelector::new,
+      random -> new DefaultCrossoverStrategy(crossoverRate, random),
+      random -> new DefaultMutationStrategy(mutationRate, random),
+      fitnessFunction, elitismEnabled, numOfAgents, seed);
+  }
+
   @Override
   public Generation getGeneration() {
     return bestEngine != null ? bestEngine.getGeneration() : generation;
   }
 
+  /**
+   * Sets the executor service that runs the sub-engines concurrently in
+   * {@link #findSolution(double, TerminationCriteria)}. The executor service is
+   * owned by the caller and not shut down by this engine. The fitness function
+   * and any strategy instances shared by the sub-engines must be thread-safe.
+   * If not set, or set to {@code null}, the sub-engines are evolved one after
+   * another on the calling thread.
+   * 
+   * @param executorService the executor service, or {@code null} to evolve the
+   *        sub-engines sequentially
+   */
+  public void setExecutorService(ExecutorService executorService) {
+    this.executorService = executorService;
+  }
+
+  /**
+   * Sets the policy of migration between the sub-engines (islands) in
+   * {@link #findSolution(double, TerminationCriteria)}. Migration only applies
+   * to the sub-engines created by the constructors of this class.
+   * 
+   * @param migrationPolicy the migration policy, or {@code null} to evolve the
+   *        islands in isolation
+   */
+  public void setMigrationPolicy(MigrationPolicy migrationPolicy) {
+    this.migrationPolicy = migrationPolicy;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation evolves the sub-engines one after another, each until
+   * it finds a solution or meets the termination criteria on its own, unless
+   * an executor service is set. In that case it evolves them concurrently:
+   * unless another sub-engine has already found a solution, each sub-engine
+   * performs at least one generation; the maximum time of the termination
+   * criteria is measured from the start of this call for all of them, and the
+   * search stops as soon as a sub-engine finds a solution. The engine with the
+   * solution, or otherwise the one with the best fitness score, becomes the
+   * best engine of this composite.
+   * 
+   * @return the index of the solution in the generation of the best engine, or
+   *         {@code -1} if no sub-engine found a solution
+   */
   @Override
   public int findSolution(double fitnessTarget,
     TerminationCriteria terminationCriteria)
   {
-    double bestOfBestScores = -Double.MIN_VALUE;
+    if (engines.length == 0)
+      return -1;
+    List<Queue<Chromosome>> inboxes = null;
+    if (migrationPolicy != null) {
+      inboxes = new ArrayList<>(engines.length);
+      for (int i = 0; i < engines.length; i++)
+        inboxes.add(new ConcurrentLinkedQueue<>());
+    }
+
+    int[] indices = new int[engines.length];
+    if (executorService == null) {
+      // Each sub-engine in turn, with its own time limit
+      for (int i = 0; i < engines.length; i++)
+        indices[i] = new Agent(i, fitnessTarget, terminationCriteria,
+          deadline(terminationCriteria), new AtomicBoolean(), migrationPolicy,
+          inboxes).call();
+    } else {
+      long deadline = deadline(terminationCriteria);
+      AtomicBoolean stopped = new AtomicBoolean();
+      List<Callable<Integer>> agents = new ArrayList<>(engines.length);
+      for (int i = 0; i < engines.length; i++)
+        agents.add(new Agent(i, fitnessTarget, terminationCriteria, deadline,
+          stopped, migrationPolicy, inboxes));
+      try {
+        List<Future<Integer>> results = executorService.invokeAll(agents);
+        for (int i = 0; i < indices.length; i++)
+          indices[i] = results.get(i).get();
+      } catch (InterruptedException e) {
+        stopped.set(true);
+        Thread.currentThread().interrupt();
+        return -1;
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException)
+          throw (RuntimeException)cause;
+        if (cause instanceof Error)
+          throw (Error)cause;
+        throw new IllegalStateException(cause);
+      }
+    }
 
-    boolean completed = true;
+    // Prefer the engines that found a solution to the ones with the best score
+    IEvolutionEngine best = null;
+    int bestIndex = -1;
     for (int i = 0; i < engines.length; i++) {
-      completed &=
-        engines[i].findSolution(fitnessTarget, terminationCriteria) > -1;
-      final double bestScore = engines[i].getBestFitnessScore();
-      if (bestScore > bestOfBestScores) {
-        bestOfBestScores = bestScore;
-        bestEngine = engines[i];
+      boolean solved = indices[i] > -1;
+      boolean bestSolved = bestIndex > -1;
+      if (best == null || solved && !bestSolved || solved == bestSolved
+        && engines[i].getBestFitnessScore() > best.getBestFitnessScore())
+      {
+        best = engines[i];
+        bestIndex = indices[i];
       }
     }
-    // If a engine with the best results has not been identified, return
-    // "null" index
-    return bestEngine != null && completed ? bestEngine.getBestIndex() : -1;
+    bestEngine = best;
+    return bestIndex > -1 ? best.getBestIndex() : -1;
+  }
+
+  /**
+   * Returns the time by which a search started now must stop, or
+   * {@link Long#MAX_VALUE} if the termination criteria set no time limit.
+   */
+  private static long deadline(TerminationCriteria terminationCriteria) {
+    if (terminationCriteria != null && terminationCriteria.getMaxTime() != -1)
+      return System.currentTimeMillis() + terminationCriteria.getMaxTime();
+    return Long.MAX_VALUE;
   }
 
   @Override
@@ -208,6 +421,138 @@ public class CompositeEvolutionEngine implements IEvolutionEngine {
     return bestEngine != null ? bestEngine.getBestFitnessScore() : Double.NaN;
   }
 
+  @Override
+  public Chromosome getBestChromosome() {
+    return bestEngine != null ? bestEngine.getBestChromosome() : null;
+  }
+
+  @Override
+  public double[] getFitnessScores() {
+    return bestEngine != null ? bestEngine.getFitnessScores() : new double[0];
+  }
+
+  @Override
+  public GenerationStats getGenerationStats() {
+    return bestEngine != null ? bestEngine.getGenerationStats() : null;
+  }
+
+  /**
+   * Evolves a sub-engine until it finds a solution, the shared termination
+   * criteria are met, or another sub-engine finds a solution. With migration
+   * enabled, the agent also exchanges chromosomes with the other agents.
+   */
+  private class Agent implements Callable<Integer> {
+
+    private final int island;
+    private final IEvolutionEngine engine;
+    private final double fitnessTarget;
+    private final TerminationCriteria terminationCriteria;
+    private final long deadline;
+    private final AtomicBoolean stopped;
+    private final MigrationPolicy migrationPolicy;
+    private final List<Queue<Chromosome>> inboxes;
+
+    Agent(int island, double fitnessTarget,
+      TerminationCriteria terminationCriteria, long deadline,
+      AtomicBoolean stopped, MigrationPolicy migrationPolicy,
+      List<Queue<Chromosome>> inboxes)
+    {
+      this.island = island;
+      this.engine = engines[island];
+      this.fitnessTarget = fitnessTarget;
+      this.terminationCriteria = terminationCriteria;
+      this.deadline = deadline;
+      this.stopped = stopped;
+      this.migrationPolicy =
+        engine instanceof EvolutionEngine ? migrationPolicy : null;
+      this.inboxes = inboxes;
+    }
+
+    @Override
+    public Integer call() {
+      try {
+        boolean first = true;
+        while (!stopped.get()) {
+          // As with TerminationEvaluator, the time limit only applies after
+          // the first generation
+          if (!first && System.currentTimeMillis() >= deadline)
+            return -1;
+          if (terminationCriteria != null
+            && terminationCriteria.getMaxGenerations() != -1
+            && engine.getGenerationCount() >= terminationCriteria
+              .getMaxGenerations())
+            return -1;
+          first = false;
+          if (migrationPolicy != null)
+            immigrate();
+          int index = engine.step(fitnessTarget);
+          if (index != -1) {
+            stopped.set(true);
+            return index;
+          }
+          if (migrationPolicy != null && engine.getGenerationCount()
+            % migrationPolicy.getInterval() == 0)
+            emigrate();
+        }
+        return -1;
+      } catch (RuntimeException | Error e) {
+        // Stop the other agents, the search has failed
+        stopped.set(true);
+        throw e;
+      }
+    }
+
+    /**
+     * Replaces chromosomes of the current generation with the migrants
+     * received from the other islands.
+     */
+    private void immigrate() {
+      Queue<Chromosome> inbox = inboxes.get(island);
+      if (inbox.isEmpty())
+        return;
+      List<Chromosome> immigrants = new ArrayList<>();
+      Chromosome immigrant;
+      while ((immigrant = inbox.poll()) != null)
+        immigrants.add(immigrant);
+      ((EvolutionEngine)engine).replaceChromosomes(
+        immigrants.toArray(new Chromosome[immigrants.size()]));
+    }
+
+    /**
+     * Sends the fittest chromosomes of the last evaluated generation to the
+     * islands selected by the migration topology. Chromosomes are immutable,
+     * so the islands can share them.
+     */
+    private void emigrate() {
+      int n = inboxes.size();
+      if (n < 2)
+        return;
+      Chromosome[] emigrants = ((EvolutionEngine)engine)
+        .getFittestChromosomes(migrationPolicy.getMigrantCount());
+      switch (migrationPolicy.getTopology()) {
+      case RING:
+        send(emigrants, (island + 1) % n);
+        break;
+      case FULLY_CONNECTED:
+        for (int i = 0; i < n; i++) {
+          if (i != island)
+            send(emigrants, i);
+        }
+        break;
+      case RANDOM:
+        int target = ThreadLocalRandom.current().nextInt(n - 1);
+        send(emigrants, target < island ? target : target + 1);
+        break;
+      }
+    }
+
+    private void send(Chromosome[] emigrants, int target) {
+      Queue<Chromosome> inbox = inboxes.get(target);
+      for (Chromosome emigrant : emigrants)
+        inbox.offer(emigrant);
+    }
+  }
+
   private static IEvolutionEngine createEngine(Generation generation,
     ISelector selector, ICrossoverStrategy crossoverStrategy,
     IMutationStrategy mutationStrategy, IFitnessFunction fitnessFunction,
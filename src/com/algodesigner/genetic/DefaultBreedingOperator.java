@@ -0,0 +1,163 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * The default breeding operator, which fuses the single-point crossover of
+ * {@link DefaultCrossoverStrategy} with the swap mutation of
+ * {@link DefaultMutationStrategy}. It draws the same random numbers, in the
+ * same order, as the two strategies applied one after the other, and produces
+ * equal offspring, but builds each changed offspring of plain
+ * {@link Chromosome} parents in a single pass into one gene array. Unchanged
+ * offspring are the parent instances themselves. Chromosomes with their own
+ * storage, such as {@link CharChromosome}, are combined by their own
+ * {@link Chromosome#crossover(Chromosome, int)} and
+ * {@link Chromosome#swapGenes(int, int)} operations.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see IBreedingOperator
+ */
+public class DefaultBreedingOperator implements IBreedingOperator {
+
+  private final double crossoverRate;
+  private final Random crossoverRandom;
+  private final double mutationRate;
+  private final Random mutationRandom;
+
+  /**
+   * Constructs this breeding operator.
+   * 
+   * @param crossoverRate the crossover rate; cannot be less than zero.
+   * @param mutationRate the mutation rate; cannot be less than zero.
+   * @param random a pseudorandom number generator; cannot be {@code null}.
+   */
+  public DefaultBreedingOperator(double crossoverRate, double mutationRate,
+    Random random)
+  {
+    this(new DefaultCrossoverStrategy(crossoverRate, random),
+      new DefaultMutationStrategy(mutationRate, random));
+  }
+
+  /**
+   * Constructs this breeding operator from the rates and pseudorandom number
+   * generators of the specified strategies.
+   * 
+   * @param crossoverStrategy the crossover strategy; cannot be {@code null}.
+   * @param mutationStrategy the mutation strategy; cannot be {@code null}.
+   */
+  public DefaultBreedingOperator(DefaultCrossoverStrategy crossoverStrategy,
+    DefaultMutationStrategy mutationStrategy)
+  {
+    this.crossoverRate = crossoverStrategy.getCrossoverRate();
+    this.crossoverRandom = crossoverStrategy.getRandom();
+    this.mutationRate = mutationStrategy.getMutationRate();
+    this.mutationRandom = mutationStrategy.getRandom();
+  }
+
+  @Override
+  public ChromosomePair breed(Chromosome parent1, Chromosome parent2) {
+    Objects.requireNonNull(parent1);
+    Objects.requireNonNull(parent2);
+
+    // Draw the crossover point, or -1 for no crossover
+    int position = -1;
+    if (crossoverRandom.nextDouble() < crossoverRate) {
+      if (!parent1.isCompatible(parent2))
+        throw new IncompatibleChromosomeException(
+          "Crossover cannot be " + "as parent chromosomes are not compatible");
+      position = crossoverRandom.nextInt(parent1.length());
+    }
+
+    // Draw the swapped positions of each offspring, or -1 for no mutation
+    int index11 = -1, index12 = -1;
+    if (mutationRandom.nextDouble() < mutationRate) {
+      index11 = mutationRandom.nextInt(parent1.length());
+      index12 = mutationRandom.nextInt(parent1.length());
+    }
+    int index21 = -1, index22 = -1;
+    if (mutationRandom.nextDouble() < mutationRate) {
+      index21 = mutationRandom.nextInt(parent2.length());
+      index22 = mutationRandom.nextInt(parent2.length());
+    }
+
+    if (parent1.getClass() == Chromosome.class
+      && parent2.getClass() == Chromosome.class)
+    {
+      return new ChromosomePair(
+        breed(parent1, parent2, position, index11, index12),
+        breed(parent2, parent1, position, index21, index22));
+    }
+
+    // Chromosomes with their own storage are combined by their own operations
+    Chromosome offspring1 = parent1;
+    Chromosome offspring2 = parent2;
+    if (position != -1) {
+      ChromosomePair pair = parent1.crossover(parent2, position);
+      offspring1 = pair.getFirst();
+      offspring2 = pair.getSecond();
+    }
+    if (index11 != -1)
+      offspring1 = offspring1.swapGenes(index11, index12);
+    if (index21 != -1)
+      offspring2 = offspring2.swapGenes(index21, index22);
+    return new ChromosomePair(offspring1, offspring2);
+  }
+
+  /**
+   * Builds the offspring with the head of {@code first} and the tail of
+   * {@code second} from {@code position}, and the genes at {@code index1} and
+   * {@code index2} swapped.
+   */
+  private static Chromosome breed(Chromosome first, Chromosome second,
+    int position, int index1, int index2)
+  {
+    if (position == -1 && index1 == -1)
+      return first;
+    Gene[] genes = new Gene[first.length()];
+    int head = position == -1 ? genes.length : position;
+    for (int i = 0; i < head; i++)
+      genes[i] = first.getGene(i);
+    for (int i = head; i < genes.length; i++)
+      genes[i] = second.getGene(i);
+    if (index1 != -1) {
+      Gene temp = genes[index1];
+      genes[index1] = genes[index2];
+      genes[index2] = temp;
+    }
+    return new Chromosome(genes);
+  }
+}
@@ -39,7 +39,7 @@ import java.util.Random;
  * Default implementation of the genetic crossover strategy.
  * 
  * @author Vlad Shurupov
- * @version 1.01
+ * @version 1.02
  */
 public class DefaultCrossoverStrategy implements ICrossoverStrategy {
 
@@ -86,17 +86,38 @@ public class DefaultCrossoverStrategy implements ICrossoverStrategy {
           "Crossover cannot be " + "as parent chromosomes are not compatible");
 
       int position = random.nextInt(chromosome1.length());
-      Gene[] geneSet1 = chromosome1.getGenes();
-      Gene[] geneSet2 = chromosome2.getGenes();
-      for (int i = position; i < chromosome1.length(); i++) {
-        Gene temp = geneSet1[i];
-        geneSet1[i] = geneSet2[i];
-        geneSet2[i] = temp;
-      }
-      return new ChromosomePair(new Chromosome(geneSet1),
-        new Chromosome(geneSet2));
+      return chromosome1.crossover(chromosome2, position);
     } else {
       return new ChromosomePair(chromosome1, chromosome2);
     }
   }
+
+  @Override
+  public boolean crossoverInto(Chromosome chromosome1, Chromosome chromosome2,
+    MutableChromosome offspring1, MutableChromosome offspring2)
+  {
+    if (random.nextDouble() < crossoverRate) {
+
+      if (!chromosome1.isCompatible(chromosome2))
+        throw new IncompatibleChromosomeException(
+          "Crossover cannot be " + "as parent chromosomes are not compatible");
+
+      int position = random.nextInt(chromosome1.length());
+      offspring1.setCrossover(chromosome1, chromosome2, position);
+      offspring2.setCrossover(chromosome2, chromosome1, position);
+      return true;
+    } else {
+      offspring1.set(chromosome1);
+      offspring2.set(chromosome2);
+      return false;
+    }
+  }
+
+  double getCrossoverRate() {
+    return crossoverRate;
+  }
+
+  Random getRandom() {
+    return random;
+  }
 }
@@ -39,7 +39,7 @@ import java.util.Random;
  * Default mutation strategy implementation
  * 
  * @author Vlad Shurupov
- * @version 1.1
+ * @version 1.2
  */
 public class DefaultMutationStrategy implements IMutationStrategy {
 
@@ -71,16 +71,34 @@ public class DefaultMutationStrategy implements IMutationStrategy {
 
   @Override
   public Chromosome mutate(Chromosome offspring) {
-    Gene[] genes = offspring.getGenes();
+    Objects.requireNonNull(offspring);
     if (random.nextDouble() < mutationRate) {
-      int index1 = random.nextInt(genes.length);
-      int index2 = random.nextInt(genes.length);
-      Gene temp = genes[index1];
-      genes[index1] = genes[index2];
-      genes[index2] = temp;
-      return new Chromosome(genes);
+      int index1 = random.nextInt(offspring.length());
+      int index2 = random.nextInt(offspring.length());
+      return offspring.swapGenes(index1, index2);
     } else {
       return offspring;
     }
   }
+
+  @Override
+  public boolean mutateInPlace(MutableChromosome offspring) {
+    Objects.requireNonNull(offspring);
+    if (random.nextDouble() < mutationRate) {
+      int index1 = random.nextInt(offspring.length());
+      int index2 = random.nextInt(offspring.length());
+      offspring.swapGenesInPlace(index1, index2);
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  double getMutationRate() {
+    return mutationRate;
+  }
+
+  Random getRandom() {
+    return random;
+  }
 }
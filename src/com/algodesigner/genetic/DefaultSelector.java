@@ -36,15 +36,22 @@ import java.util.Objects;
 import java.util.Random;
 
 /**
- * Default implementation of the chromosome selection strategy.
+ * Default implementation of the chromosome selection strategy. Parents are
+ * selected with probability proportional to their fitness scores (roulette
+ * wheel selection).
+ * <p>
+ * The selector builds a table of cumulative fitness scores and picks each
+ * parent with a binary search in it. {@link #select(Generation, double[])}
+ * builds the table on every call, while
+ * {@link #selectIndices(Generation, double[], int, int[])} builds it once for
+ * all the pairs, so selecting all the parents of a generation in one batch
+ * costs O(n log n) rather than O(n) per pick.
  * 
  * @author Vlad Shurupov
- * @version 1.0
+ * @version 1.1
  */
 public class DefaultSelector implements ISelector {
 
-  private static final int MAX_SELECTIONS = 5;
-
   private final Random random;
 
   /**
@@ -66,49 +73,82 @@ public class DefaultSelector implements ISelector {
   @Override
   public ChromosomePair select(Generation generation, double[] fitnessScores) {
 
-    if (fitnessScores.length < 2)
-      throw new IllegalArgumentException("fitnessScores array is too short");
-
-    // Select the indices for the parents. The same parent cannot be selected
-    // twice.
-    int firstParentIndex = selectSingle(fitnessScores);
-    int secondParentIndex = 0;
-
-    for (int i = 0; i < MAX_SELECTIONS; i++) {
-      secondParentIndex = selectSingle(fitnessScores);
-      if (secondParentIndex != firstParentIndex)
-        break;
-    }
-
-    // If the second index still collides, shift it
-    if (secondParentIndex == firstParentIndex)
-      secondParentIndex = secondParentIndex == fitnessScores.length - 1 ? 0
-        : secondParentIndex + 1;
+    Selectors.checkScores(fitnessScores);
+    CumulativeScores scores = new CumulativeScores(fitnessScores);
+    return Selectors.selectPair(generation, () -> selectSingle(scores),
+      fitnessScores.length);
+  }
 
-    return new ChromosomePair(generation.getChromosome(firstParentIndex),
-      generation.getChromosome(secondParentIndex));
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation builds the running totals of the fitness scores once
+   * for all the pairs.
+   */
+  @Override
+  public void selectIndices(Generation generation, double[] fitnessScores,
+    int pairs, int[] out)
+  {
+    Selectors.checkIndices(fitnessScores, pairs, out);
+    CumulativeScores scores = new CumulativeScores(fitnessScores);
+    Selectors.selectIndices(() -> selectSingle(scores), fitnessScores.length,
+      pairs, out);
   }
 
-  private int selectSingle(double[] fitnessScores) {
+  private int selectSingle(CumulativeScores scores) {
 
-    // Calculate the total score
-    double totalScore = 0;
-    for (int i = 0; i < fitnessScores.length; i++)
-      totalScore += fitnessScores[i];
+    final double[] runningScores = scores.runningScores;
+    final double totalScore = runningScores[runningScores.length - 1];
 
     if (totalScore == 0)
-      return random.nextInt(fitnessScores.length);
+      return random.nextInt(runningScores.length);
 
     // Slice the distribution
     double slice = random.nextDouble() * totalScore;
 
-    // Identify the "winning" entry
-    double runningScore = 0;
-    for (int i = 0; i < fitnessScores.length; i++) {
-      runningScore += fitnessScores[i];
-      if (runningScore >= slice)
-        return i;
+    // Identify the "winning" entry, which is the first one whose running score
+    // reaches the slice
+    if (scores.monotonic) {
+      int low = 0;
+      int high = runningScores.length - 1;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (runningScores[middle] >= slice)
+          high = middle;
+        else
+          low = middle + 1;
+      }
+      if (runningScores[low] >= slice)
+        return low;
+    } else {
+      // Negative scores make the running score non-monotonic, so it has to be
+      // scanned
+      for (int i = 0; i < runningScores.length; i++) {
+        if (runningScores[i] >= slice)
+          return i;
+      }
     }
     throw new IllegalStateException("Selection failed");
   }
+
+  /**
+   * Running totals of the fitness scores of a generation.
+   */
+  private static class CumulativeScores {
+
+    private final double[] runningScores;
+    private final boolean monotonic;
+
+    CumulativeScores(double[] fitnessScores) {
+      this.runningScores = new double[fitnessScores.length];
+      double runningScore = 0;
+      boolean monotonic = true;
+      for (int i = 0; i < fitnessScores.length; i++) {
+        runningScore += fitnessScores[i];
+        runningScores[i] = runningScore;
+        monotonic &= fitnessScores[i] >= 0;
+      }
+      this.monotonic = monotonic;
+    }
+  }
 }
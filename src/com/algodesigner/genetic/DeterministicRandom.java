@@ -0,0 +1,112 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Random;
+
+/**
+ * A pseudorandom number generator whose stream is selected explicitly by
+ * {@link #reseed(long, long)} from a seed, a generation number and an
+ * offspring slot. It is used by {@link EvolutionEngine} in deterministic mode,
+ * so that the random decisions taken for an offspring slot do not depend on
+ * the order in which slots are bred, nor on the thread breeding them.
+ * <p>
+ * The state of the generator is kept per thread: a thread must reseed the
+ * generator before it draws numbers, and its draws do not affect the streams
+ * seen by other threads. The numbers are produced by the SplitMix64 algorithm.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see EvolutionEngineBuilder#setSeed(long)
+ */
+class DeterministicRandom extends Random {
+
+  private static final long serialVersionUID = 0;
+
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private final long seed;
+  private final transient ThreadLocal<long[]> state =
+    ThreadLocal.withInitial(() -> new long[1]);
+
+  /**
+   * Constructs this generator.
+   * 
+   * @param seed the seed all the streams are derived from
+   */
+  DeterministicRandom(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Selects the stream of the specified generation and slot for the calling
+   * thread.
+   * 
+   * @param generation the generation number
+   * @param slot the offspring slot, or a negative number for the streams used
+   *        outside of the offspring slots
+   */
+  void reseed(long generation, long slot) {
+    long key = mix64(generation + GOLDEN_GAMMA * mix64(slot));
+    state.get()[0] = mix64(seed + GOLDEN_GAMMA * key);
+  }
+
+  /**
+   * Not supported, use {@link #reseed(long, long)} instead.
+   * 
+   * @throws UnsupportedOperationException always, after construction
+   */
+  @Override
+  public void setSeed(long seed) {
+    // Invoked by the constructor of Random before the state is assigned
+    if (state != null)
+      throw new UnsupportedOperationException();
+  }
+
+  @Override
+  protected int next(int bits) {
+    return (int)(nextLong() >>> (64 - bits));
+  }
+
+  @Override
+  public long nextLong() {
+    long[] s = state.get();
+    return mix64(s[0] += GOLDEN_GAMMA);
+  }
+
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -32,8 +32,10 @@
  */
 package com.algodesigner.genetic;
 
-import java.util.Objects;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * The core engine that drives the genetic optimisation process, implementing
@@ -83,9 +85,12 @@ import java.util.Random;
  * <p>
  * This implementation supports customisable selection, crossover, and mutation
  * strategies, allowing fine-grained control over the evolutionary process.
+ * Additional execution settings, such as parallel fitness evaluation and the
+ * deterministic mode for reproducible runs, are configured through
+ * {@link EvolutionEngineBuilder}.
  * 
  * @author Vlad Shurupov
- * @version 1.03
+ * @version 1.04
  * @see Generation
  * @see Chromosome
  * @see ISelector
@@ -93,20 +98,45 @@ import java.util.Random;
  * @see IMutationStrategy
  * @see IFitnessFunction
  * @see CompositeEvolutionEngine
+ * @see EvolutionEngineBuilder
  */
 public class EvolutionEngine implements IEvolutionEngine {
 
   private final ISelector selector;
+  private final boolean selectsIndices;
   private final ICrossoverStrategy crossoverStrategy;
   private final IMutationStrategy mutationStrategy;
+  private final IBreedingOperator breedingOperator;
   private final IFitnessFunction fitnessFunction;
+  private final IBatchFitnessFunction batchFitnessFunction;
   private final boolean elitismEnabled;
+  private final ForkJoinPool breedingPool;
+  private final boolean scoreReuseEnabled;
+  private final DeterministicRandom deterministicRandom;
+  private final boolean doubleBufferingEnabled;
+  private final boolean chromosomeRecyclingEnabled;
   private TerminationEvaluator terminationEvaluator;
 
   private Generation generation;
   private long generationCount;
-  private int bestIndex;
+  private int bestIndex = -1;
   private double bestFitnessScore;
+  private double[] carriedScores;
+  private Generation scoredGeneration;
+  private long scoredGenerationCount;
+  private double[] scoredFitnessScores;
+  private GenerationStats generationStats;
+
+  // Ping-pong buffers of the double-buffering mode, indexed by currentBuffer
+  private Chromosome[][] chromosomeBuffers;
+  private Generation[] bufferGenerations;
+  private double[][] scoreBuffers;
+  private int[] parentIndexBuffer;
+  private int currentBuffer;
+
+  // Recycled offspring chromosomes, indexed by buffer and slot
+  private MutableChromosome[][] chromosomeArena;
+  private long evaluationsSaved;
 
   /**
    * Constructs a new evolution engine with default selection, crossover, and
@@ -239,12 +269,37 @@ public class EvolutionEngine implements IEvolutionEngine {
     ICrossoverStrategy crossoverStrategy, IMutationStrategy mutationStrategy,
     IFitnessFunction fitnessFunction, boolean elitismEnabled)
   {
-    this.generation = Objects.requireNonNull(generation);
-    this.selector = Objects.requireNonNull(selector);
-    this.crossoverStrategy = Objects.requireNonNull(crossoverStrategy);
-    this.mutationStrategy = Objects.requireNonNull(mutationStrategy);
-    this.fitnessFunction = Objects.requireNonNull(fitnessFunction);
-    this.elitismEnabled = elitismEnabled;
+    this(new EvolutionEngineBuilder(generation).setSelector(selector)
+      .setCrossoverStrategy(crossoverStrategy)
+      .setMutationStrategy(mutationStrategy).setFitnessFunction(fitnessFunction)
+      .setElitismEnabled(elitismEnabled));
+  }
+
+  /**
+   * Constructs a new evolution engine from the configuration collected by the
+   * specified builder.
+   * 
+   * @param builder the engine builder
+   * @see EvolutionEngineBuilder#build()
+   */
+  EvolutionEngine(EvolutionEngineBuilder builder) {
+    this.generation = builder.getGeneration();
+    this.selector = builder.getSelector();
+    this.selectsIndices = overridesSelectIndices(selector);
+    this.crossoverStrategy = builder.getCrossoverStrategy();
+    this.mutationStrategy = builder.getMutationStrategy();
+    this.breedingOperator =
+      builder.getBreedingOperator(crossoverStrategy, mutationStrategy);
+    this.fitnessFunction = builder.getFitnessFunction();
+    this.batchFitnessFunction = builder.getBatchFitnessFunction();
+    this.elitismEnabled = builder.isElitismEnabled();
+    this.breedingPool = builder.getBreedingPool();
+    this.scoreReuseEnabled = builder.isScoreReuseEnabled();
+    this.deterministicRandom = builder.getDeterministicRandom();
+    this.doubleBufferingEnabled = builder.isDoubleBufferingEnabled();
+    this.chromosomeRecyclingEnabled = builder.isChromosomeRecyclingEnabled();
+    if (doubleBufferingEnabled)
+      initBuffers();
     this.terminationEvaluator = new TerminationEvaluator(this);
   }
 
@@ -255,6 +310,11 @@ public class EvolutionEngine implements IEvolutionEngine {
    * After each call to {@link #step()} or {@link #step(double)}, the generation
    * is replaced with a new one containing evolved chromosomes. The returned
    * generation is typically ordered by fitness (best first).
+   * <p>
+   * In double-buffering mode the engine overwrites the storage of its
+   * generations, so this method returns a snapshot copy of the current
+   * generation, which later steps do not change. If chromosome recycling is
+   * enabled, the recycled chromosomes are copied as well.
    * 
    * @return the current generation, never {@code null}
    * @see #step()
@@ -263,7 +323,14 @@ public class EvolutionEngine implements IEvolutionEngine {
    */
   @Override
   public Generation getGeneration() {
-    return generation;
+    if (!doubleBufferingEnabled)
+      return generation;
+    Chromosome[] chromosomes = chromosomeBuffers[currentBuffer].clone();
+    if (chromosomeRecyclingEnabled) {
+      for (int i = 0; i < chromosomes.length; i++)
+        chromosomes[i] = snapshot(chromosomes[i]);
+    }
+    return new Generation(chromosomes);
   }
 
   /**
@@ -346,6 +413,16 @@ public class EvolutionEngine implements IEvolutionEngine {
    * <p>
    * This method is useful for implementing early termination when a
    * satisfactory solution is found, avoiding unnecessary computation.
+   * <p>
+   * If a batch fitness function, an asynchronous fitness function, an
+   * evaluation pool or an evaluation executor is configured, the whole
+   * generation is evaluated in one batch first, and the scores are then
+   * checked in index order. The returned index, the best index and score, and
+   * the NaN validation are therefore the same as with sequential evaluation.
+   * <p>
+   * If score reuse is enabled, chromosomes carried over unchanged from the
+   * previous generation are given their previous score without being
+   * evaluated again.
    * 
    * @param fitnessTarget the fitness value to check against, or {@code -1} to
    *        skip checking (equivalent to {@link #step()})
@@ -361,47 +438,119 @@ public class EvolutionEngine implements IEvolutionEngine {
   @Override
   public int step(double fitnessTarget) {
 
-    // Fitness: Evaluate fitness of each individual chromosome
-    double[] fitnessScores = new double[generation.size()];
+    // Fitness: Evaluate fitness of each individual chromosome whose score is
+    // not known yet (NaN)
+    double[] fitnessScores = carriedScores;
+    carriedScores = null;
+    if (fitnessScores == null) {
+      fitnessScores = doubleBufferingEnabled ? scoreBuffers[currentBuffer]
+        : new double[generation.size()];
+      Arrays.fill(fitnessScores, Double.NaN);
+    }
+    scoredGeneration = generation;
+    scoredGenerationCount = generationCount;
+    scoredFitnessScores = fitnessScores;
     bestIndex = -1;
     bestFitnessScore = 0;
+
+    // Statistics of the scores, accumulated as the scores are checked
+    GenerationStats.Accumulator stats = new GenerationStats.Accumulator();
+    int solutionIndex = -1;
+    if (batchFitnessFunction != null) {
+      for (int i = 0; i < fitnessScores.length; i++) {
+        if (!Double.isNaN(fitnessScores[i]))
+          evaluationsSaved++;
+      }
+      batchFitnessFunction.applyAll(generation, fitnessScores);
+    }
     for (int i = 0; i < fitnessScores.length; i++) {
-      fitnessScores[i] = fitnessFunction.apply(generation.getChromosome(i));
+      if (batchFitnessFunction == null) {
+        if (Double.isNaN(fitnessScores[i]))
+          fitnessScores[i] =
+            fitnessFunction.apply(generation.getChromosome(i));
+        else
+          evaluationsSaved++;
+      }
       if (Double.isNaN(fitnessScores[i]))
         throw new IllegalStateException(
           "Invalid score (NaN) for chromosome: " + generation.getChromosome(i));
-      if (bestIndex == -1 || fitnessScores[i] > fitnessScores[bestIndex]) {
+      double score = fitnessScores[i];
+      stats.add(score);
+      if (bestIndex == -1 || score > fitnessScores[bestIndex]) {
         bestIndex = i;
-        bestFitnessScore = fitnessScores[i];
+        bestFitnessScore = score;
       }
-      if (fitnessScores[i] >= fitnessTarget - 1e-8) {
-        return i;
+      if (score >= fitnessTarget - 1e-8) {
+        solutionIndex = i;
+        break;
       }
     }
+    generationStats = stats.toStats(generationCount);
+    if (solutionIndex != -1)
+      return solutionIndex;
 
     // New population: Produce offsprings that form a new generation
-    Chromosome[] offspring = new Chromosome[generation.size()];
+    int nextBuffer = 1 - currentBuffer;
+    Chromosome[] offspring = doubleBufferingEnabled
+      ? chromosomeBuffers[nextBuffer] : new Chromosome[generation.size()];
+    double[] offspringScores = null;
+    if (scoreReuseEnabled) {
+      offspringScores = doubleBufferingEnabled ? scoreBuffers[nextBuffer]
+        : new double[offspring.length];
+      Arrays.fill(offspringScores, Double.NaN);
+    }
 
     int i = 0;
     if (elitismEnabled) {
-      offspring[i++] = generation.getChromosome(bestIndex);
-      offspring[i++] = generation.getChromosome(bestIndex);
+      Chromosome best = generation.getChromosome(bestIndex);
+      if (chromosomeRecyclingEnabled) {
+        recycle(offspring, i++).set(best);
+        recycle(offspring, i++).set(best);
+      } else {
+        offspring[i++] = best;
+        offspring[i++] = best;
+      }
+      if (offspringScores != null) {
+        offspringScores[0] = bestFitnessScore;
+        offspringScores[1] = bestFitnessScore;
+      }
     }
-    for (; i < offspring.length; i += 2) {
 
-      // Selection: Select a parent pair
-      ChromosomePair pair = selector.select(generation, fitnessScores);
+    // Selection: Select the parent pairs of all the offspring at once
+    int[] parentIndices = null;
+    ChromosomePair[] parentPairs = null;
+    if (deterministicRandom != null)
+      deterministicRandom.reseed(generationCount, -1);
+    if (selectsIndices) {
+      parentIndices = doubleBufferingEnabled ? parentIndexBuffer
+        : new int[offspring.length - i];
+      if (parentIndices.length > 0)
+        selector.selectIndices(generation, fitnessScores,
+          parentIndices.length / 2, parentIndices);
+    } else {
+      // Selectors that only implement select may return chromosomes that are
+      // not in the generation, so the offspring are bred from the pairs
+      parentPairs = new ChromosomePair[(offspring.length - i) / 2];
+      for (int k = 0; k < parentPairs.length; k++)
+        parentPairs[k] = selector.select(generation, fitnessScores);
+    }
 
-      // Crossover: Cross over two parents to form a new offspring
-      ChromosomePair offspringPair =
-        crossoverStrategy.crossover(pair.getFirst(), pair.getSecond());
+    if (breedingPool != null && i < offspring.length)
+      breedingPool.invoke(new BreedingTask(generation, fitnessScores,
+        parentIndices, parentPairs, offspring, offspringScores, i,
+        offspring.length, Math.max(2, (offspring.length - i)
+          / (breedingPool.getParallelism() * 4))));
+    else
+      breed(generation, fitnessScores, parentIndices, parentPairs, offspring,
+        offspringScores, i, offspring.length);
 
-      // Mutation: Mutate new offspring
-      offspring[i] = mutationStrategy.mutate(offspringPair.getFirst());
-      offspring[i + 1] = mutationStrategy.mutate(offspringPair.getSecond());
-    }
     // Replace: Replace the existing generation with a new one
-    generation = new Generation(offspring);
+    if (doubleBufferingEnabled) {
+      currentBuffer = nextBuffer;
+      generation = bufferGenerations[nextBuffer];
+    } else
+      generation = new Generation(offspring);
+    carriedScores = offspringScores;
     generationCount++;
     return -1;
   }
@@ -422,8 +571,9 @@ public class EvolutionEngine implements IEvolutionEngine {
    * {@inheritDoc}
    * <p>
    * This implementation returns the index of the chromosome with the highest
-   * fitness score from the most recent fitness evaluation. The index is updated
-   * during each call to {@link #step()} or {@link #step(double)}.
+   * fitness score from the most recent fitness evaluation, or {@code -1} before
+   * the first one. The index is updated during each call to {@link #step()} or
+   * {@link #step(double)}.
    */
   @Override
   public int getBestIndex() {
@@ -442,24 +592,360 @@ public class EvolutionEngine implements IEvolutionEngine {
     return bestFitnessScore;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation returns the chromosome the best score was found for,
+   * from the most recently evaluated generation, without evaluating it again.
+   * If the last step did not reach the fitness target, that generation has
+   * since been replaced by its offspring.
+   */
+  @Override
+  public Chromosome getBestChromosome() {
+    if (bestIndex == -1)
+      return null;
+    return snapshot(scoredGeneration.getChromosome(bestIndex));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation keeps the score array of the most recently evaluated
+   * generation, which the next step replaces, and returns a copy of it.
+   */
+  @Override
+  public double[] getFitnessScores() {
+    if (scoredFitnessScores == null)
+      return new double[0];
+    return scoredFitnessScores.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation accumulates the statistics while checking the scores
+   * in {@link #step(double)}, in the same loop. If a chromosome reached the
+   * fitness target, the statistics cover the chromosomes up to and including
+   * it, whether or not the chromosomes after it were scored.
+   */
+  @Override
+  public GenerationStats getGenerationStats() {
+    return generationStats;
+  }
+
+  /**
+   * Returns the number of fitness evaluations skipped since this engine was
+   * constructed because the score of a chromosome was carried over from the
+   * previous generation. The count is always zero unless score reuse is
+   * enabled.
+   * 
+   * @return the number of evaluations saved
+   * @see EvolutionEngineBuilder#setScoreReuseEnabled(boolean)
+   */
+  public long getEvaluationsSaved() {
+    return evaluationsSaved;
+  }
+
+  /**
+   * Allocates the buffers of the double-buffering mode, copying the initial
+   * generation into the first one, so that the array of the caller's
+   * generation is never overwritten.
+   */
+  private void initBuffers() {
+    int size = generation.size();
+    chromosomeBuffers = new Chromosome[2][size];
+    for (int i = 0; i < size; i++)
+      chromosomeBuffers[0][i] = generation.getChromosome(i);
+    bufferGenerations = new Generation[] {
+      new Generation(chromosomeBuffers[0]),
+      new Generation(chromosomeBuffers[1]) };
+    scoreBuffers = new double[2][size];
+    if (chromosomeRecyclingEnabled)
+      chromosomeArena = new MutableChromosome[2][size];
+    parentIndexBuffer = new int[elitismEnabled ? Math.max(0, size - 2) : size];
+    generation = bufferGenerations[0];
+  }
+
+  /**
+   * Returns the fittest chromosomes of the most recently evaluated generation,
+   * fittest first. Chromosomes that were not evaluated because an earlier one
+   * reached the fitness target are not considered.
+   * 
+   * @param count the maximum number of chromosomes to return
+   * @return the fittest chromosomes; empty if no generation has been evaluated
+   */
+  Chromosome[] getFittestChromosomes(int count) {
+    if (scoredGeneration == null)
+      return new Chromosome[0];
+    double[] scores = scoredFitnessScores;
+    boolean[] taken = new boolean[scores.length];
+    Chromosome[] fittest = new Chromosome[Math.min(count, scores.length)];
+    int n = 0;
+    for (; n < fittest.length; n++) {
+      int index = -1;
+      for (int i = 0; i < scores.length; i++) {
+        if (!taken[i] && !Double.isNaN(scores[i])
+          && (index == -1 || scores[i] > scores[index]))
+          index = i;
+      }
+      if (index == -1)
+        break;
+      taken[index] = true;
+      fittest[n] = snapshot(scoredGeneration.getChromosome(index));
+    }
+    return n < fittest.length ? Arrays.copyOf(fittest, n) : fittest;
+  }
+
+  /**
+   * Replaces the last chromosomes of the current generation with the specified
+   * chromosomes, which are evaluated in the next step. Surplus chromosomes are
+   * ignored.
+   * 
+   * @param chromosomes the replacement chromosomes
+   */
+  void replaceChromosomes(Chromosome[] chromosomes) {
+    int size = generation.size();
+    int count = Math.min(chromosomes.length, size);
+    if (count == 0)
+      return;
+    if (doubleBufferingEnabled) {
+      System.arraycopy(chromosomes, 0, chromosomeBuffers[currentBuffer],
+        size - count, count);
+    } else {
+      Chromosome[] replaced = new Chromosome[size];
+      for (int i = 0; i < size; i++)
+        replaced[i] = generation.getChromosome(i);
+      System.arraycopy(chromosomes, 0, replaced, size - count, count);
+      generation = new Generation(replaced);
+    }
+    if (carriedScores != null)
+      Arrays.fill(carriedScores, size - count, size, Double.NaN);
+  }
+
+  /**
+   * Returns a report of the most recently evaluated generation with the
+   * stored fitness scores, or of the initial generation if no step has been
+   * performed. Chromosomes without a score, because no step has been
+   * performed or an earlier chromosome reached the fitness target, are marked
+   * as not evaluated. The fitness function is not called.
+   * 
+   * @return a report of this engine
+   */
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder(256);
     sb.append(getClass().getSimpleName() + "\n");
-    int size = generation.size();
+    Generation reported =
+      scoredGeneration != null ? scoredGeneration : generation;
+    int size = reported.size();
     for (int i = 0; i < size; i++) {
-      Chromosome c = generation.getChromosome(i);
+      Chromosome c = reported.getChromosome(i);
       sb.append(c.toString());
       sb.append(' ');
-      sb.append(fitnessFunction.apply(c));
+      if (scoredFitnessScores != null && !Double.isNaN(scoredFitnessScores[i]))
+        sb.append(scoredFitnessScores[i]);
+      else
+        sb.append("(not evaluated)");
       sb.append('\n');
     }
-    sb.append("Generation #: " + getGenerationCount());
+    sb.append("Generation #: "
+      + (scoredGeneration != null ? scoredGenerationCount : generationCount));
     sb.append('\n');
     sb.append("Best index: " + getBestIndex());
     sb.append('\n');
     sb.append("Best Chromosome:\n" + getBestChromosome() + '\n');
-    sb.append("Best fitness: " + fitnessFunction.apply(getBestChromosome()));
+    sb.append("Best fitness: "
+      + (bestIndex != -1 ? bestFitnessScore : Double.NaN));
     return sb.toString();
   }
+
+  /**
+   * Breeds the offspring in the slots from {@code from} (inclusive) to
+   * {@code to} (exclusive), both of which are the first slots of pairs. The
+   * parents of the pair starting at slot {@code i} are at positions
+   * {@code i - k} and {@code i - k + 1} of {@code parentIndices}, where
+   * {@code k} is the number of elite slots, or, if the parents were selected
+   * as pairs, in the pair {@code (i - k) / 2} of {@code parentPairs}.
+   */
+  private void breed(Generation generation, double[] fitnessScores,
+    int[] parentIndices, ChromosomePair[] parentPairs, Chromosome[] offspring,
+    double[] offspringScores, int from, int to)
+  {
+    int eliteCount = offspring.length - (parentPairs != null
+      ? 2 * parentPairs.length : parentIndices.length);
+    for (int i = from; i < to; i += 2) {
+      int j = i - eliteCount;
+
+      // Crossover: Cross over two parents to form a new offspring
+      Chromosome parent1;
+      Chromosome parent2;
+      double score1;
+      double score2;
+      if (parentPairs != null) {
+        // The scores of parents selected as pairs are not known
+        parent1 = parentPairs[j / 2].getFirst();
+        parent2 = parentPairs[j / 2].getSecond();
+        score1 = Double.NaN;
+        score2 = Double.NaN;
+      } else {
+        parent1 = generation.getChromosome(parentIndices[j]);
+        parent2 = generation.getChromosome(parentIndices[j + 1]);
+        score1 = fitnessScores[parentIndices[j]];
+        score2 = fitnessScores[parentIndices[j + 1]];
+      }
+      if (deterministicRandom != null)
+        deterministicRandom.reseed(generationCount, i);
+      if (chromosomeRecyclingEnabled) {
+        breedInPlace(parent1, parent2, offspring, offspringScores, i, score1,
+          score2);
+        continue;
+      }
+      if (breedingOperator != null) {
+        // Crossover and mutation fused into one operator
+        ChromosomePair offspringPair = breedingOperator.breed(parent1, parent2);
+        offspring[i] = offspringPair.getFirst();
+        offspring[i + 1] = offspringPair.getSecond();
+      } else {
+        ChromosomePair offspringPair =
+          crossoverStrategy.crossover(parent1, parent2);
+
+        // Mutation: Mutate new offspring
+        offspring[i] = mutationStrategy.mutate(offspringPair.getFirst());
+        if (deterministicRandom != null)
+          deterministicRandom.reseed(generationCount, i + 1);
+        offspring[i + 1] = mutationStrategy.mutate(offspringPair.getSecond());
+      }
+
+      // Carry over the scores of the parents that passed through unchanged
+      if (offspringScores != null) {
+        offspringScores[i] =
+          carriedScore(offspring[i], parent1, score1, parent2, score2);
+        offspringScores[i + 1] =
+          carriedScore(offspring[i + 1], parent1, score1, parent2, score2);
+      }
+    }
+  }
+
+  /**
+   * Breeds the pair of offspring starting at slot {@code i} into recycled
+   * chromosomes of the arena, carrying over the scores of the parents that
+   * passed through unchanged if score reuse is enabled.
+   */
+  private void breedInPlace(Chromosome parent1, Chromosome parent2,
+    Chromosome[] offspring, double[] offspringScores, int i, double score1,
+    double score2)
+  {
+    MutableChromosome offspring1 = recycle(offspring, i);
+    MutableChromosome offspring2 = recycle(offspring, i + 1);
+    boolean crossed =
+      crossoverStrategy.crossoverInto(parent1, parent2, offspring1, offspring2);
+    boolean mutated1 = mutationStrategy.mutateInPlace(offspring1);
+    if (deterministicRandom != null)
+      deterministicRandom.reseed(generationCount, i + 1);
+    boolean mutated2 = mutationStrategy.mutateInPlace(offspring2);
+    if (offspringScores != null) {
+      offspringScores[i] = crossed || mutated1 ? Double.NaN : score1;
+      offspringScores[i + 1] = crossed || mutated2 ? Double.NaN : score2;
+    }
+  }
+
+  /**
+   * Returns the arena chromosome of the specified slot of the offspring
+   * buffer, creating it on first use, and stores it in the slot. The slots of
+   * the buffer hold the generation before last, which is no longer in use.
+   */
+  private MutableChromosome recycle(Chromosome[] offspring, int slot) {
+    MutableChromosome[] arena = chromosomeArena[1 - currentBuffer];
+    MutableChromosome chromosome = arena[slot];
+    if (chromosome == null)
+      arena[slot] = chromosome = new MutableChromosome();
+    offspring[slot] = chromosome;
+    return chromosome;
+  }
+
+  /**
+   * Returns whether a selector implements
+   * {@link ISelector#selectIndices(Generation, double[], int, int[])} itself
+   * rather than inheriting the default implementation.
+   */
+  private static boolean overridesSelectIndices(ISelector selector) {
+    try {
+      return selector.getClass().getMethod("selectIndices", Generation.class,
+        double[].class, int.class, int[].class)
+        .getDeclaringClass() != ISelector.class;
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns an immutable copy of a recycled chromosome, or the specified
+   * chromosome itself if it is not recycled.
+   */
+  private static Chromosome snapshot(Chromosome chromosome) {
+    if (chromosome instanceof MutableChromosome)
+      return ((MutableChromosome)chromosome).toChromosome();
+    return chromosome;
+  }
+
+  /**
+   * Returns the score of an offspring if it is one of its parents, or NaN if
+   * it is a new chromosome.
+   */
+  private static double carriedScore(Chromosome offspring, Chromosome parent1,
+    double score1, Chromosome parent2, double score2)
+  {
+    if (offspring == parent1)
+      return score1;
+    return offspring == parent2 ? score2 : Double.NaN;
+  }
+
+  /**
+   * Fork/join task that breeds a range of offspring slots, splitting the range
+   * in halves, on pair boundaries, until it is no longer than the threshold.
+   */
+  private class BreedingTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 0;
+
+    private final Generation generation;
+    private final double[] fitnessScores;
+    private final int[] parentIndices;
+    private final ChromosomePair[] parentPairs;
+    private final Chromosome[] offspring;
+    private final double[] offspringScores;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    BreedingTask(Generation generation, double[] fitnessScores,
+      int[] parentIndices, ChromosomePair[] parentPairs,
+      Chromosome[] offspring, double[] offspringScores, int from, int to,
+      int threshold)
+    {
+      this.generation = generation;
+      this.fitnessScores = fitnessScores;
+      this.parentIndices = parentIndices;
+      this.parentPairs = parentPairs;
+      this.offspring = offspring;
+      this.offspringScores = offspringScores;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        breed(generation, fitnessScores, parentIndices, parentPairs,
+          offspring, offspringScores, from, to);
+      } else {
+        int middle = from + ((to - from) >>> 2 << 1);
+        invokeAll(new BreedingTask(generation, fitnessScores, parentIndices,
+          parentPairs, offspring, offspringScores, from, middle, threshold),
+          new BreedingTask(generation, fitnessScores, parentIndices,
+            parentPairs, offspring, offspringScores, middle, to, threshold));
+      }
+    }
+  }
 }
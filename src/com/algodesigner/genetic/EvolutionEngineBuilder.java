@@ -0,0 +1,561 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Builder of {@link EvolutionEngine} instances. The builder collects the
+ * mandatory components of an engine (the initial generation and the fitness
+ * function) together with the optional genetic operators and execution
+ * settings, and validates them when {@link #build()} is called.
+ * <p>
+ * When a selector, crossover strategy or mutation strategy is not supplied, the
+ * corresponding default implementation is created using the configured rate
+ * and random number generator.
+ * <p>
+ * <strong>Example usage:</strong>
+ * 
+ * <pre>
+ * EvolutionEngine engine = new EvolutionEngineBuilder(initialGeneration)
+ *   .setFitnessFunction(new MyFitnessFunction())
+ *   .setCrossoverRate(0.8)
+ *   .setMutationRate(0.01)
+ *   .setElitismEnabled(true)
+ *   .setEvaluationPool(pool) // Evaluate fitness on the caller's pool
+ *   .setScoreReuseEnabled(true) // Do not re-evaluate unchanged chromosomes
+ *   .build();
+ * </pre>
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see EvolutionEngine
+ */
+public class EvolutionEngineBuilder {
+
+  private final Generation generation;
+  private IFitnessFunction fitnessFunction;
+  private IAsyncFitnessFunction asyncFitnessFunction;
+  private IBatchFitnessFunction batchFitnessFunction;
+  private ISelector selector;
+  private ICrossoverStrategy crossoverStrategy;
+  private IMutationStrategy mutationStrategy;
+  private IBreedingOperator breedingOperator;
+  private double crossoverRate = Double.NaN;
+  private double mutationRate = Double.NaN;
+  private Random random;
+  private boolean elitismEnabled;
+  private ForkJoinPool evaluationPool;
+  private ForkJoinPool breedingPool;
+  private Executor evaluationExecutor;
+  private int maxConcurrentEvaluations;
+  private boolean scoreReuseEnabled;
+  private boolean doubleBufferingEnabled;
+  private boolean chromosomeRecyclingEnabled;
+  private Long seed;
+  private DeterministicRandom deterministicRandom;
+
+  /**
+   * Constructs this builder.
+   * 
+   * @param generation the initial generation; cannot be {@code null}.
+   */
+  public EvolutionEngineBuilder(Generation generation) {
+    this.generation = Objects.requireNonNull(generation);
+  }
+
+  /**
+   * Sets the function used to evaluate the fitness of chromosomes.
+   * 
+   * @param fitnessFunction the fitness function; cannot be {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setFitnessFunction(
+    IFitnessFunction fitnessFunction)
+  {
+    this.fitnessFunction = Objects.requireNonNull(fitnessFunction);
+    return this;
+  }
+
+  /**
+   * Sets the function used to evaluate the fitness of chromosomes
+   * asynchronously, in place of a synchronous fitness function. The engine
+   * starts the evaluations of all the chromosomes of a generation whose scores
+   * are not known and then waits for all of them together. Cannot be combined
+   * with an evaluation pool or executor, as the asynchronous function is
+   * responsible for its own concurrency.
+   * 
+   * @param asyncFitnessFunction the asynchronous fitness function; cannot be
+   *        {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setAsyncFitnessFunction(
+    IAsyncFitnessFunction asyncFitnessFunction)
+  {
+    this.asyncFitnessFunction = Objects.requireNonNull(asyncFitnessFunction);
+    return this;
+  }
+
+  /**
+   * Sets the function used to evaluate the fitness of whole generations, in
+   * place of a synchronous fitness function. The engine calls it once per
+   * generation. Cannot be combined with an evaluation pool or executor, as
+   * the batch function is responsible for its own concurrency.
+   * 
+   * @param batchFitnessFunction the batch fitness function; cannot be
+   *        {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setBatchFitnessFunction(
+    IBatchFitnessFunction batchFitnessFunction)
+  {
+    this.batchFitnessFunction = Objects.requireNonNull(batchFitnessFunction);
+    return this;
+  }
+
+  /**
+   * Sets the parent selection strategy. If not set, a {@link DefaultSelector}
+   * is used.
+   * 
+   * @param selector the selector; cannot be {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setSelector(ISelector selector) {
+    this.selector = Objects.requireNonNull(selector);
+    return this;
+  }
+
+  /**
+   * Sets the crossover strategy. If not set, a
+   * {@link DefaultCrossoverStrategy} with the configured crossover rate is
+   * used.
+   * 
+   * @param crossoverStrategy the crossover strategy; cannot be {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setCrossoverStrategy(
+    ICrossoverStrategy crossoverStrategy)
+  {
+    this.crossoverStrategy = Objects.requireNonNull(crossoverStrategy);
+    return this;
+  }
+
+  /**
+   * Sets the mutation strategy. If not set, a {@link DefaultMutationStrategy}
+   * with the configured mutation rate is used.
+   * 
+   * @param mutationStrategy the mutation strategy; cannot be {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setMutationStrategy(
+    IMutationStrategy mutationStrategy)
+  {
+    this.mutationStrategy = Objects.requireNonNull(mutationStrategy);
+    return this;
+  }
+
+  /**
+   * Sets a breeding operator that performs crossover and mutation in one step,
+   * replacing the crossover and mutation strategies, whose rates then need not
+   * be set. Cannot be combined with chromosome recycling.
+   * <p>
+   * If not set, the engine fuses the crossover and mutation strategies into a
+   * {@link DefaultBreedingOperator} when both are the default ones, unless the
+   * deterministic mode or chromosome recycling is enabled, which apply the two
+   * strategies separately. The evolution is the same either way.
+   * 
+   * @param breedingOperator the breeding operator; cannot be {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setBreedingOperator(
+    IBreedingOperator breedingOperator)
+  {
+    this.breedingOperator = Objects.requireNonNull(breedingOperator);
+    return this;
+  }
+
+  /**
+   * Sets the crossover rate of the default crossover strategy.
+   * 
+   * @param crossoverRate the crossover rate; cannot be less than zero.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setCrossoverRate(double crossoverRate) {
+    if (crossoverRate < 0)
+      throw new IllegalArgumentException(
+        "crossover rate cannot be less than zero");
+    this.crossoverRate = crossoverRate;
+    return this;
+  }
+
+  /**
+   * Sets the mutation rate of the default mutation strategy.
+   * 
+   * @param mutationRate the mutation rate; cannot be less than zero.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setMutationRate(double mutationRate) {
+    if (mutationRate < 0)
+      throw new IllegalArgumentException(
+        "mutation rate cannot be less than zero");
+    this.mutationRate = mutationRate;
+    return this;
+  }
+
+  /**
+   * Sets the pseudorandom number generator shared by the default selector,
+   * crossover and mutation strategies. Cannot be combined with
+   * {@link #setSeed(long)}.
+   * 
+   * @param random a pseudorandom number generator; cannot be {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setRandom(Random random) {
+    this.random = Objects.requireNonNull(random);
+    return this;
+  }
+
+  /**
+   * Enables or disables double buffering. When enabled, the engine keeps two
+   * sets of population and score arrays and alternates between them, breeding
+   * each generation into the arrays of the generation before last instead of
+   * allocating new ones. This removes the per-step allocation of these arrays,
+   * which matters for large populations evolving many generations per second.
+   * <p>
+   * The {@link Generation} and score array instances passed to the fitness
+   * function and the selector are then reused from one generation to the
+   * next, with different contents, so they must not be cached by identity
+   * across steps. {@link EvolutionEngine#getGeneration()} returns snapshot
+   * copies in this mode. Double buffering is disabled by default.
+   * 
+   * @param doubleBufferingEnabled {@code true} to reuse the population and
+   *        score arrays, {@code false} otherwise
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setDoubleBufferingEnabled(
+    boolean doubleBufferingEnabled)
+  {
+    this.doubleBufferingEnabled = doubleBufferingEnabled;
+    return this;
+  }
+
+  /**
+   * Enables or disables chromosome recycling. When enabled, the engine keeps an
+   * arena of {@link MutableChromosome} instances, one per population slot of
+   * each of the double buffers, and breeds the offspring straight into them
+   * through {@link ICrossoverStrategy#crossoverInto(Chromosome, Chromosome,
+   * MutableChromosome, MutableChromosome)} and
+   * {@link IMutationStrategy#mutateInPlace(MutableChromosome)}, so that
+   * steady-state breeding with the default strategies allocates nothing.
+   * Enabling recycling implies double buffering, and the evolution is the same
+   * as without recycling for the same sources of randomness.
+   * <p>
+   * The chromosomes passed to the fitness function and the selector are then
+   * overwritten two generations later, so they must not be retained across
+   * steps; {@link CachingFitnessFunction} keeps copies of them.
+   * {@link EvolutionEngine#getGeneration()} returns immutable copies.
+   * Chromosome recycling is disabled by default.
+   * 
+   * @param chromosomeRecyclingEnabled {@code true} to recycle the offspring
+   *        chromosomes, {@code false} otherwise
+   * @return this builder
+   * @see #setDoubleBufferingEnabled(boolean)
+   */
+  public EvolutionEngineBuilder setChromosomeRecyclingEnabled(
+    boolean chromosomeRecyclingEnabled)
+  {
+    this.chromosomeRecyclingEnabled = chromosomeRecyclingEnabled;
+    return this;
+  }
+
+  /**
+   * Enables the deterministic mode, in which the random decisions of the
+   * default selector, crossover and mutation strategies are drawn from streams
+   * derived from the specified seed: one stream per generation for the
+   * selection of parents, and one per generation and offspring slot for the
+   * crossover and mutation producing the offspring in that slot. The evolution
+   * is then reproducible bit for bit, whatever the number of threads that
+   * evaluate or breed the offspring. Custom strategies keep their own sources
+   * of randomness.
+   * 
+   * @param seed the seed of the random number streams
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  /**
+   * Enables or disables elitism.
+   * 
+   * @param elitismEnabled {@code true} to preserve the best chromosomes,
+   *        {@code false} otherwise
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setElitismEnabled(boolean elitismEnabled) {
+    this.elitismEnabled = elitismEnabled;
+    return this;
+  }
+
+  /**
+   * Sets the fork/join pool used to evaluate the fitness of a generation in
+   * parallel. If not set, chromosomes are evaluated one at a time on the
+   * calling thread. The pool is owned by the caller, who shuts it down when
+   * the engine is no longer used; {@link ForkJoinPool#commonPool()} needs no
+   * shutdown.
+   * 
+   * @param evaluationPool the fork/join pool; cannot be {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setEvaluationPool(ForkJoinPool evaluationPool)
+  {
+    this.evaluationPool = Objects.requireNonNull(evaluationPool);
+    return this;
+  }
+
+  /**
+   * Sets the executor that evaluates the fitness of chromosomes, each as a
+   * separate task, with at most {@code maxConcurrentEvaluations} tasks
+   * running at once. This suits fitness functions that block on I/O, e.g.
+   * with the executor of {@code Executors.newVirtualThreadPerTaskExecutor()}
+   * on Java 21 or later, whereas {@link #setEvaluationPool(ForkJoinPool)}
+   * suits CPU-bound ones. Cannot be combined with an evaluation pool. The
+   * executor is owned by the caller, who shuts it down when the engine is no
+   * longer used.
+   * 
+   * @param evaluationExecutor the executor; cannot be {@code null}.
+   * @param maxConcurrentEvaluations the maximum number of concurrent
+   *        evaluations; must be positive.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setEvaluationExecutor(
+    Executor evaluationExecutor, int maxConcurrentEvaluations)
+  {
+    if (maxConcurrentEvaluations < 1)
+      throw new IllegalArgumentException(
+        "maximum concurrent evaluations must be positive");
+    this.evaluationExecutor = Objects.requireNonNull(evaluationExecutor);
+    this.maxConcurrentEvaluations = maxConcurrentEvaluations;
+    return this;
+  }
+
+  /**
+   * Sets the fork/join pool used to breed the offspring of a generation in
+   * parallel. The parents are still selected on the calling thread, in a
+   * single batch, while the crossover and mutation of the offspring are split
+   * into chunks of offspring slots bred on the pool. The crossover and
+   * mutation strategies must therefore be thread-safe. Unless a random number
+   * generator or a seed is set, the default strategies draw from a generator
+   * per thread. If not set, offspring are bred on the calling thread. The
+   * pool is owned by the caller, who shuts it down when the engine is no
+   * longer used.
+   * 
+   * @param breedingPool the fork/join pool; cannot be {@code null}.
+   * @return this builder
+   */
+  public EvolutionEngineBuilder setBreedingPool(ForkJoinPool breedingPool) {
+    this.breedingPool = Objects.requireNonNull(breedingPool);
+    return this;
+  }
+
+  /**
+   * Enables or disables the reuse of fitness scores. When enabled, chromosomes
+   * that pass unchanged into the next generation, such as elite copies and
+   * parents left untouched by crossover and mutation, keep the score they
+   * were given and are not evaluated again. This requires a deterministic
+   * fitness function. Reuse is disabled by default.
+   * 
+   * @param scoreReuseEnabled {@code true} to reuse the scores of unchanged
+   *        chromosomes, {@code false} otherwise
+   * @return this builder
+   * @see EvolutionEngine#getEvaluationsSaved()
+   */
+  public EvolutionEngineBuilder setScoreReuseEnabled(boolean scoreReuseEnabled)
+  {
+    this.scoreReuseEnabled = scoreReuseEnabled;
+    return this;
+  }
+
+  /**
+   * Builds a new instance of {@link EvolutionEngine}.
+   * 
+   * @return a new instance of the evolution engine
+   * @throws IllegalStateException if not exactly one of the fitness function,
+   *         the asynchronous and the batch fitness function has been set, one
+   *         of the latter is combined with an evaluation pool or executor, a
+   *         default
+   *         strategy is required but its rate has not been set, or both a
+   *         random number generator and a seed, or both an evaluation pool and
+   *         an evaluation executor have been set
+   */
+  public EvolutionEngine build() {
+    int fitnessFunctionCount = (fitnessFunction != null ? 1 : 0)
+      + (asyncFitnessFunction != null ? 1 : 0)
+      + (batchFitnessFunction != null ? 1 : 0);
+    if (fitnessFunctionCount == 0)
+      throw new IllegalStateException("fitness function is not set");
+    if (fitnessFunctionCount > 1)
+      throw new IllegalStateException(
+        "only one kind of fitness function can be set");
+    if (fitnessFunction == null
+      && (evaluationPool != null || evaluationExecutor != null))
+      throw new IllegalStateException(
+        "only a fitness function can be evaluated on a pool or executor");
+    if (breedingOperator == null && crossoverStrategy == null
+      && Double.isNaN(crossoverRate))
+      throw new IllegalStateException("crossover rate is not set");
+    if (breedingOperator == null && mutationStrategy == null
+      && Double.isNaN(mutationRate))
+      throw new IllegalStateException("mutation rate is not set");
+    if (breedingOperator != null && chromosomeRecyclingEnabled)
+      throw new IllegalStateException(
+        "breeding operator cannot be combined with chromosome recycling");
+    if (evaluationPool != null && evaluationExecutor != null)
+      throw new IllegalStateException(
+        "evaluation pool and executor cannot both be set");
+    if (seed != null && random != null)
+      throw new IllegalStateException("random and seed cannot both be set");
+    deterministicRandom = seed != null ? new DeterministicRandom(seed) : null;
+    return new EvolutionEngine(this);
+  }
+
+  Generation getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Returns the fitness function that evaluates chromosomes one at a time, or
+   * {@code null} if only an asynchronous or batch fitness function is set.
+   */
+  IFitnessFunction getFitnessFunction() {
+    return fitnessFunction;
+  }
+
+  /**
+   * Returns the batch fitness function that evaluates whole generations
+   * according to the evaluation settings, or {@code null} if chromosomes are
+   * to be evaluated one at a time on the calling thread.
+   */
+  IBatchFitnessFunction getBatchFitnessFunction() {
+    if (batchFitnessFunction != null)
+      return batchFitnessFunction;
+    if (asyncFitnessFunction != null)
+      return BatchFitnessFunctions.async(asyncFitnessFunction);
+    if (evaluationPool != null)
+      return BatchFitnessFunctions.onPool(fitnessFunction, evaluationPool);
+    if (evaluationExecutor != null)
+      return BatchFitnessFunctions.onExecutor(fitnessFunction,
+        evaluationExecutor, maxConcurrentEvaluations);
+    return null;
+  }
+
+  ISelector getSelector() {
+    if (selector != null)
+      return selector;
+    Random random = getRandom();
+    return random != null ? new DefaultSelector(random) : new DefaultSelector();
+  }
+
+  ICrossoverStrategy getCrossoverStrategy() {
+    if (crossoverStrategy != null)
+      return crossoverStrategy;
+    Random random = getRandom();
+    return random != null ? new DefaultCrossoverStrategy(crossoverRate, random)
+      : new DefaultCrossoverStrategy(crossoverRate);
+  }
+
+  IMutationStrategy getMutationStrategy() {
+    if (mutationStrategy != null)
+      return mutationStrategy;
+    Random random = getRandom();
+    return random != null ? new DefaultMutationStrategy(mutationRate, random)
+      : new DefaultMutationStrategy(mutationRate);
+  }
+
+  DeterministicRandom getDeterministicRandom() {
+    return deterministicRandom;
+  }
+
+  ForkJoinPool getBreedingPool() {
+    return breedingPool;
+  }
+
+  private Random getRandom() {
+    if (deterministicRandom != null)
+      return deterministicRandom;
+    if (random == null && breedingPool != null)
+      return new ThreadLocalRandomAdapter();
+    return random;
+  }
+
+  boolean isElitismEnabled() {
+    return elitismEnabled;
+  }
+
+  boolean isDoubleBufferingEnabled() {
+    return doubleBufferingEnabled || chromosomeRecyclingEnabled;
+  }
+
+  /**
+   * Returns the breeding operator set, or the default strategies fused into
+   * one, or {@code null} if the strategies are to be applied separately.
+   */
+  IBreedingOperator getBreedingOperator(ICrossoverStrategy crossoverStrategy,
+    IMutationStrategy mutationStrategy)
+  {
+    if (breedingOperator != null)
+      return breedingOperator;
+
+    // The deterministic mode reseeds between the mutations of the two
+    // offspring, and recycling breeds the offspring in place
+    if (deterministicRandom != null || chromosomeRecyclingEnabled
+      || crossoverStrategy.getClass() != DefaultCrossoverStrategy.class
+      || mutationStrategy.getClass() != DefaultMutationStrategy.class)
+      return null;
+    return new DefaultBreedingOperator(
+      (DefaultCrossoverStrategy)crossoverStrategy,
+      (DefaultMutationStrategy)mutationStrategy);
+  }
+
+  boolean isChromosomeRecyclingEnabled() {
+    return chromosomeRecyclingEnabled;
+  }
+
+  boolean isScoreReuseEnabled() {
+    return scoreReuseEnabled;
+  }
+}
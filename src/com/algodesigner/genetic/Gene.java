@@ -32,6 +32,9 @@
  */
 package com.algodesigner.genetic;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Represents a single gene in a genetic algorithm, which is the fundamental
  * unit of information in a chromosome. A gene holds a value that contributes to
@@ -59,15 +62,35 @@ package com.algodesigner.genetic;
  * This implementation enforces non-null values for genes to maintain data
  * integrity throughout the evolutionary process. Gene equality is based on
  * value equality, not reference equality.
+ * <p>
+ * Genes drawn from small alphabets (characters, bytes, booleans, digits) are
+ * best obtained through {@link #of(Object)}, which returns shared instances
+ * instead of allocating a new gene for every position of every chromosome.
  * 
  * @author Vlad Shurupov
- * @version 1.01
+ * @version 1.02
  * @see Chromosome
  * @see Generation
  * @see EvolutionEngine
  */
 public class Gene {
 
+  private static final int MAX_CACHED_GENES = 4096;
+
+  private static final Gene[] CHAR_GENES = new Gene[256];
+  private static final Gene[] BYTE_GENES = new Gene[256];
+  private static final Gene TRUE_GENE = new Gene(Boolean.TRUE);
+  private static final Gene FALSE_GENE = new Gene(Boolean.FALSE);
+  private static final ConcurrentMap<Object, Gene> CACHED_GENES =
+    new ConcurrentHashMap<>();
+
+  static {
+    for (int i = 0; i < CHAR_GENES.length; i++)
+      CHAR_GENES[i] = new Gene((char)i);
+    for (int i = 0; i < BYTE_GENES.length; i++)
+      BYTE_GENES[i] = new Gene((byte)(i + Byte.MIN_VALUE));
+  }
+
   private final Object value;
 
   /**
@@ -96,6 +119,43 @@ public class Gene {
     this.value = value;
   }
 
+  /**
+   * Returns a gene with the specified value, sharing instances between equal
+   * values where possible. Genes of characters with codes up to 255, bytes and
+   * booleans come from fixed tables; genes of other values are kept in a
+   * bounded cache, and a new gene is returned once the cache is full.
+   * <p>
+   * Since the returned gene may be shared, the value should be immutable.
+   * 
+   * @param value the gene value, must not be {@code null}
+   * @return a gene with the specified value
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   * @see #Gene(Object)
+   */
+  public static Gene of(Object value) {
+    if (value instanceof Character) {
+      char c = ((Character)value).charValue();
+      if (c < CHAR_GENES.length)
+        return CHAR_GENES[c];
+    } else if (value instanceof Byte) {
+      return BYTE_GENES[((Byte)value).byteValue() - Byte.MIN_VALUE];
+    } else if (value instanceof Boolean) {
+      return ((Boolean)value).booleanValue() ? TRUE_GENE : FALSE_GENE;
+    } else if (value == null) {
+      throw new IllegalArgumentException("Gene value cannot be null");
+    }
+    Gene gene = CACHED_GENES.get(value);
+    if (gene == null) {
+      gene = new Gene(value);
+      if (CACHED_GENES.size() < MAX_CACHED_GENES) {
+        Gene cachedGene = CACHED_GENES.putIfAbsent(value, gene);
+        if (cachedGene != null)
+          gene = cachedGene;
+      }
+    }
+    return gene;
+  }
+
   /**
    * Returns the value stored in this gene. The returned value is the same
    * object that was passed to the constructor, allowing direct access to the
@@ -54,22 +54,28 @@ public class GenerationBuilder {
 
   /**
    * Adds the specified number of the string representation of a chromosome.
+   * The added chromosomes are distinct instances sharing the same interned
+   * genes.
    * 
    * @param instances the number of instances
    * @param geneString a string representation of a chromosome
+   * @see Gene#of(Object)
    */
   public void addChromosomes(int instances, String geneString) {
+    Gene[] genes = Chromosome.toGenes(geneString);
     for (int i = 0; i < instances; i++)
-      addChromosome(geneString);
+      chromosomes.add(new Chromosome(genes));
   }
 
   /**
-   * Adds a string representation of a chromosome.
+   * Adds a string representation of a chromosome. The genes of the chromosome
+   * are interned.
    * 
    * @param geneString a string representation of a chromosome
+   * @see Gene#of(Object)
    */
   public void addChromosome(String geneString) {
-    chromosomes.add(new Chromosome(geneString));
+    chromosomes.add(new Chromosome(Chromosome.toGenes(geneString)));
   }
 
   /**
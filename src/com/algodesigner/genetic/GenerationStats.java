@@ -0,0 +1,215 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+/**
+ * Immutable summary statistics of the fitness scores of one generation: the
+ * number of scored chromosomes and the minimum, maximum, mean, variance and
+ * standard deviation of their scores. The variance is the population variance
+ * of the scores, computed in a single pass with Welford's algorithm, which is
+ * numerically stable for large populations of similar scores.
+ * <p>
+ * <strong>Example usage:</strong>
+ * 
+ * <pre>
+ * engine.step();
+ * GenerationStats stats = engine.getGenerationStats();
+ * System.out.println("Generation " + stats.getGeneration() + ": mean "
+ *   + stats.getMean() + ", sd " + stats.getStandardDeviation());
+ * </pre>
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see IEvolutionEngine#getGenerationStats()
+ */
+public final class GenerationStats {
+
+  private final long generation;
+  private final int count;
+  private final double min;
+  private final double max;
+  private final double mean;
+  private final double variance;
+
+  /**
+   * Constructs the statistics of a generation.
+   * 
+   * @param generation the number of the generation
+   * @param count the number of scored chromosomes
+   * @param min the minimum score
+   * @param max the maximum score
+   * @param mean the mean score
+   * @param variance the population variance of the scores
+   */
+  GenerationStats(long generation, int count, double min, double max,
+    double mean, double variance)
+  {
+    this.generation = generation;
+    this.count = count;
+    this.min = min;
+    this.max = max;
+    this.mean = mean;
+    this.variance = variance;
+  }
+
+  /**
+   * Computes the statistics of the specified scores in one pass, ignoring NaN
+   * scores of chromosomes that were not evaluated.
+   * 
+   * @param generation the number of the generation
+   * @param scores the fitness scores
+   * @return the statistics of the scores
+   */
+  static GenerationStats of(long generation, double[] scores) {
+    Accumulator accumulator = new Accumulator();
+    for (double score : scores) {
+      if (!Double.isNaN(score))
+        accumulator.add(score);
+    }
+    return accumulator.toStats(generation);
+  }
+
+  /**
+   * Returns the number of the generation, that is the number of generations
+   * evolved before it.
+   * 
+   * @return the generation number
+   * @see IEvolutionEngine#getGenerationCount()
+   */
+  public long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Returns the number of chromosomes whose scores are summarised.
+   * 
+   * @return the number of scored chromosomes
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the minimum score.
+   * 
+   * @return the minimum score, or NaN if no chromosome was scored
+   */
+  public double getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the maximum score.
+   * 
+   * @return the maximum score, or NaN if no chromosome was scored
+   */
+  public double getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the mean score.
+   * 
+   * @return the mean score, or NaN if no chromosome was scored
+   */
+  public double getMean() {
+    return mean;
+  }
+
+  /**
+   * Returns the population variance of the scores.
+   * 
+   * @return the variance, or NaN if no chromosome was scored
+   */
+  public double getVariance() {
+    return variance;
+  }
+
+  /**
+   * Returns the population standard deviation of the scores.
+   * 
+   * @return the standard deviation, or NaN if no chromosome was scored
+   */
+  public double getStandardDeviation() {
+    return Math.sqrt(variance);
+  }
+
+  /**
+   * Streaming accumulator of scores, which updates the statistics with
+   * Welford's algorithm as each score is added.
+   */
+  static final class Accumulator {
+
+    private int count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private double mean;
+    private double m2;
+
+    /**
+     * Adds a score to the statistics.
+     * 
+     * @param score the score, not NaN
+     */
+    void add(double score) {
+      count++;
+      double delta = score - mean;
+      mean += delta / count;
+      m2 += delta * (score - mean);
+      if (count == 1 || score < min)
+        min = score;
+      if (count == 1 || score > max)
+        max = score;
+    }
+
+    /**
+     * Returns the statistics of the scores added so far.
+     * 
+     * @param generation the number of the generation
+     * @return the statistics of the scores
+     */
+    GenerationStats toStats(long generation) {
+      if (count == 0)
+        return new GenerationStats(generation, 0, Double.NaN, Double.NaN,
+          Double.NaN, Double.NaN);
+      return new GenerationStats(generation, count, min, max, mean,
+        m2 / count);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Generation " + generation + ": count=" + count + ", min=" + min
+      + ", max=" + max + ", mean=" + mean + ", sd=" + getStandardDeviation();
+  }
+}
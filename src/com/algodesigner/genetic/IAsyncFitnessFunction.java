@@ -0,0 +1,76 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Functional interface of fitness functions that evaluate chromosomes
+ * asynchronously, e.g. by sending requests to a scoring service. An evolution
+ * engine configured with an asynchronous fitness function issues the requests
+ * for a whole generation before waiting for any of them, so the latencies of
+ * the requests overlap instead of adding up.
+ * <p>
+ * <strong>Example implementation:</strong>
+ * 
+ * <pre>
+ * IAsyncFitnessFunction remoteFitness =
+ *   chromosome -&gt; scoringClient.score(chromosome.toString());
+ * 
+ * EvolutionEngine engine = new EvolutionEngineBuilder(initialGeneration)
+ *   .setAsyncFitnessFunction(remoteFitness)
+ *   .setCrossoverRate(0.8)
+ *   .setMutationRate(0.01)
+ *   .build();
+ * </pre>
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see IFitnessFunction
+ * @see EvolutionEngineBuilder#setAsyncFitnessFunction(IAsyncFitnessFunction)
+ */
+@FunctionalInterface
+public interface IAsyncFitnessFunction {
+
+  /**
+   * Starts the evaluation of the specified chromosome and returns a future of
+   * its fitness score. The method should return without waiting for the
+   * evaluation to complete. The score is subject to the same rules as the
+   * scores returned by {@link IFitnessFunction#apply(Chromosome)}; a future
+   * that completes exceptionally fails the evolution step.
+   * 
+   * @param chromosome the chromosome to evaluate, never {@code null}
+   * @return the future fitness score of the chromosome (higher is better)
+   */
+  CompletableFuture<Double> applyAsync(Chromosome chromosome);
+}
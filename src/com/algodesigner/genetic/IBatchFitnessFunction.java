@@ -0,0 +1,100 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+/**
+ * Functional interface of fitness functions that evaluate a whole generation
+ * in one call. Fitness functions that score a population with matrix
+ * arithmetic, vectorised code or their own threading can implement this
+ * interface to be invoked once per generation, instead of once per
+ * chromosome.
+ * <p>
+ * A single-chromosome {@link IFitnessFunction} is adapted to this interface by
+ * {@link #of(IFitnessFunction)}.
+ * <p>
+ * <strong>Example implementation:</strong>
+ * 
+ * <pre>
+ * IBatchFitnessFunction matrixFitness = (generation, scores) -&gt; {
+ *   double[][] features = toFeatureMatrix(generation);
+ *   double[] products = multiply(features, weights);
+ *   for (int i = 0; i &lt; scores.length; i++) {
+ *     if (Double.isNaN(scores[i]))
+ *       scores[i] = products[i];
+ *   }
+ * };
+ * </pre>
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see IFitnessFunction
+ * @see EvolutionEngineBuilder#setBatchFitnessFunction(IBatchFitnessFunction)
+ */
+@FunctionalInterface
+public interface IBatchFitnessFunction {
+
+  /**
+   * Evaluates the chromosomes of the specified generation, storing the score
+   * of the chromosome at index {@code i} in {@code fitnessScores[i]}.
+   * <p>
+   * On entry, the elements of {@code fitnessScores} that are not NaN hold
+   * scores already known to the engine, e.g. scores reused from the previous
+   * generation. Implementations must replace every NaN element with a score
+   * and may skip the others, but must not change them. The scores are subject
+   * to the same rules as the scores returned by
+   * {@link IFitnessFunction#apply(Chromosome)}.
+   * 
+   * @param generation the generation to evaluate, never {@code null}
+   * @param fitnessScores the array of scores, as long as the generation
+   */
+  void applyAll(Generation generation, double[] fitnessScores);
+
+  /**
+   * Returns a batch fitness function that evaluates the chromosomes of a
+   * generation one at a time, in index order, with the specified fitness
+   * function.
+   * 
+   * @param fitnessFunction the fitness function; cannot be {@code null}.
+   * @return the batch fitness function
+   */
+  static IBatchFitnessFunction of(IFitnessFunction fitnessFunction) {
+    if (fitnessFunction == null)
+      throw new IllegalArgumentException("null");
+    return (generation, fitnessScores) -> {
+      for (int i = 0; i < fitnessScores.length; i++) {
+        if (Double.isNaN(fitnessScores[i]))
+          fitnessScores[i] = fitnessFunction.apply(generation.getChromosome(i));
+      }
+    };
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+/**
+ * Functional interface of breeding operators that produce a pair of offspring
+ * from a pair of parents, performing crossover and mutation in one step. A
+ * fused operator can build each offspring in a single pass over the genes of
+ * the parents, instead of crossing them over into new chromosomes that
+ * mutation then copies again.
+ * <p>
+ * The engine fuses the default crossover and mutation strategies into a
+ * {@link DefaultBreedingOperator} automatically. Custom operators are set with
+ * {@link EvolutionEngineBuilder#setBreedingOperator(IBreedingOperator)}, in
+ * which case they replace the crossover and mutation strategies.
+ * <p>
+ * <strong>Example implementation:</strong>
+ * 
+ * <pre>
+ * IBreedingOperator uniformBreeding = (parent1, parent2) -&gt; {
+ *   Gene[] genes1 = parent1.getGenes();
+ *   Gene[] genes2 = parent2.getGenes();
+ *   for (int i = 0; i &lt; genes1.length; i++) {
+ *     if (random.nextBoolean()) {
+ *       Gene temp = genes1[i];
+ *       genes1[i] = genes2[i];
+ *       genes2[i] = temp;
+ *     }
+ *   }
+ *   return new ChromosomePair(new Chromosome(genes1),
+ *     new Chromosome(genes2));
+ * };
+ * </pre>
+ * <p>
+ * <strong>Thread safety:</strong> like crossover and mutation strategies,
+ * breeding operators are invoked concurrently by engines that breed in
+ * parallel, in which case they must be thread-safe.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see ICrossoverStrategy
+ * @see IMutationStrategy
+ * @see DefaultBreedingOperator
+ */
+@FunctionalInterface
+public interface IBreedingOperator {
+
+  /**
+   * Produces a pair of offspring from two parent chromosomes. An offspring
+   * that is neither crossed over nor mutated should be returned as the parent
+   * instance itself, so that the engine can carry its score over when score
+   * reuse is enabled.
+   * 
+   * @param parent1 the first parent chromosome, never {@code null}
+   * @param parent2 the second parent chromosome, never {@code null}
+   * @return the pair of offspring, never {@code null}
+   * @throws IncompatibleChromosomeException if chromosomes cannot be crossed
+   *         over
+   */
+  ChromosomePair breed(Chromosome parent1, Chromosome parent2);
+}
@@ -83,9 +83,15 @@ package com.algodesigner.genetic;
  *     new Chromosome(child2Genes));
  * };
  * </pre>
+ * <p>
+ * <strong>Thread safety:</strong> an engine with a breeding pool crosses over
+ * the parents of different offspring slots concurrently, and the sub-engines of
+ * a {@link CompositeEvolutionEngine} may share a strategy. Strategies used in
+ * either way must be thread-safe, e.g. by keeping no mutable state besides a
+ * thread-safe random number generator.
  * 
  * @author Vlad Shurupov
- * @version 1.0
+ * @version 1.2
  * @see ChromosomePair
  * @see Chromosome
  * @see DefaultCrossoverStrategy
@@ -112,4 +118,36 @@ public interface ICrossoverStrategy {
    * @see ChromosomePair
    */
   ChromosomePair crossover(Chromosome chromosome1, Chromosome chromosome2);
+
+  /**
+   * Combines two parent chromosomes like
+   * {@link #crossover(Chromosome, Chromosome)}, but writes the offspring into
+   * the specified destination chromosomes instead of allocating new ones. The
+   * engine calls this method when chromosome recycling is enabled, passing
+   * destinations from its arena that are never one of the parents.
+   * <p>
+   * The default implementation calls {@link #crossover(Chromosome, Chromosome)}
+   * and copies the result into the destinations. Implementations that can
+   * combine the parents directly into the destinations should override it,
+   * drawing the same random numbers as the allocating method.
+   * 
+   * @param chromosome1 the first parent chromosome, never {@code null}
+   * @param chromosome2 the second parent chromosome, never {@code null}
+   * @param offspring1 the destination of the first offspring
+   * @param offspring2 the destination of the second offspring
+   * @return {@code false} if the offspring are unchanged copies of
+   *         {@code chromosome1} and {@code chromosome2} respectively,
+   *         {@code true} otherwise
+   * @throws IncompatibleChromosomeException if chromosomes cannot be crossed
+   *         over
+   * @see MutableChromosome
+   */
+  default boolean crossoverInto(Chromosome chromosome1, Chromosome chromosome2,
+    MutableChromosome offspring1, MutableChromosome offspring2)
+  {
+    ChromosomePair pair = crossover(chromosome1, chromosome2);
+    offspring1.set(pair.getFirst());
+    offspring2.set(pair.getSecond());
+    return pair.getFirst() != chromosome1 || pair.getSecond() != chromosome2;
+  }
 }
@@ -54,7 +54,7 @@ package com.algodesigner.genetic;
  * maintaining compatibility with the standard {@link EvolutionEngine}.
  * 
  * @author Vlad Shurupov
- * @version 1.01
+ * @version 1.02
  * @see EvolutionEngine
  * @see CompositeEvolutionEngine
  * @see Generation
@@ -171,4 +171,45 @@ public interface IEvolutionEngine {
   default Chromosome getBestChromosome() {
     return getGeneration().getChromosome(getBestIndex());
   }
+
+  /**
+   * Returns the fitness scores of the most recently evaluated generation,
+   * indexed like its chromosomes, as computed by the last call to
+   * {@link #step(double)}. Chromosomes that were not evaluated because an
+   * earlier one reached the fitness target have a NaN score. The scores are
+   * those the best index and score were found from, so reporting code can use
+   * them instead of calling the fitness function again.
+   * <p>
+   * The default implementation returns an empty array, for engines that do
+   * not keep their scores.
+   * 
+   * @return a copy of the last fitness scores, or an empty array if no fitness
+   *         evaluation has been performed
+   * @see #getBestIndex()
+   * @see #getBestFitnessScore()
+   */
+  default double[] getFitnessScores() {
+    return new double[0];
+  }
+
+  /**
+   * Returns the summary statistics of the fitness scores of the most recently
+   * evaluated generation, that is of the scores returned by
+   * {@link #getFitnessScores()}.
+   * <p>
+   * The default implementation computes the statistics from
+   * {@link #getFitnessScores()}, numbering them with
+   * {@link #getGenerationCount()}. Implementations may collect them while
+   * evaluating the generation instead.
+   * 
+   * @return the statistics of the last generation, or {@code null} if no
+   *         fitness evaluation has been performed
+   * @see GenerationStats
+   */
+  default GenerationStats getGenerationStats() {
+    double[] scores = getFitnessScores();
+    if (scores.length == 0)
+      return null;
+    return GenerationStats.of(getGenerationCount(), scores);
+  }
 }
\ No newline at end of file
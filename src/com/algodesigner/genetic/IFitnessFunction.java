@@ -48,6 +48,9 @@ package com.algodesigner.genetic;
  *   <li><strong>Continuous:</strong> Small changes should produce small fitness changes</li>
  *   <li><strong>Efficient:</strong> Called frequently during evolution</li>
  *   <li><strong>Deterministic:</strong> Same chromosome should produce same fitness</li>
+ *   <li><strong>Thread-safe:</strong> Called concurrently by engines evaluating
+ *   in parallel and by the sub-engines of a {@link CompositeEvolutionEngine}
+ *   given an executor service</li>
  * </ul>
  * <p>
  * <strong>Example implementation:</strong>
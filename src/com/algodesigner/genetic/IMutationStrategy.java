@@ -81,9 +81,13 @@ package com.algodesigner.genetic;
  *   return new Chromosome(genes);
  * };
  * </pre>
+ * <p>
+ * <strong>Thread safety:</strong> like crossover strategies, mutation
+ * strategies are invoked concurrently by engines that breed in parallel and by
+ * sub-engines sharing them, in which case they must be thread-safe.
  * 
  * @author Vlad Shurupov
- * @version 1.0
+ * @version 1.2
  * @see Chromosome
  * @see DefaultMutationStrategy
  * @see EvolutionEngine
@@ -108,4 +112,27 @@ public interface IMutationStrategy {
    *         expected
    */
   Chromosome mutate(Chromosome offspring);
+
+  /**
+   * Applies mutation to a chromosome like {@link #mutate(Chromosome)}, but
+   * modifies the specified chromosome instead of returning a new one. The
+   * engine calls this method when chromosome recycling is enabled.
+   * <p>
+   * The default implementation calls {@link #mutate(Chromosome)} and copies
+   * the result into {@code offspring} if it is a different chromosome.
+   * Implementations that can mutate the chromosome in place should override
+   * it, drawing the same random numbers as the allocating method.
+   * 
+   * @param offspring the chromosome to mutate, never {@code null}
+   * @return {@code true} if a mutation was applied, {@code false} if the
+   *         chromosome is unchanged
+   * @see MutableChromosome
+   */
+  default boolean mutateInPlace(MutableChromosome offspring) {
+    Chromosome mutated = mutate(offspring);
+    if (mutated == offspring)
+      return false;
+    offspring.set(mutated);
+    return true;
+  }
 }
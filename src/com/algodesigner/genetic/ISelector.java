@@ -32,6 +32,9 @@
  */
 package com.algodesigner.genetic;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
  * Functional interface that defines selection strategies for choosing parent
  * chromosomes in a genetic algorithm. Selection is a critical component that
@@ -71,12 +74,27 @@ package com.algodesigner.genetic;
  *     generation.getChromosome(parent2));
  * };
  * </pre>
+ * <p>
+ * Evolution engines select all the parents of a generation at once through
+ * {@link #selectIndices(Generation, double[], int, int[])} when a selector
+ * overrides it. Implementations that precompute data from the fitness scores
+ * (running totals, alias tables, etc.) should do so to build that data once per
+ * call and to avoid allocating a {@link ChromosomePair} for every pair.
+ * Selectors that only implement {@link #select(Generation, double[])}, such as
+ * the lambdas above, are called once per pair, and the engine breeds from the
+ * returned chromosomes, which need not belong to the generation.
+ * <p>
+ * An engine calls its selector from one thread at a time, but a selector shared
+ * by the sub-engines of a {@link CompositeEvolutionEngine} is called from
+ * several threads concurrently and must then be thread-safe.
  * 
  * @author Vlad Shurupov
- * @version 1.0
+ * @version 1.1
  * @see ChromosomePair
  * @see Generation
  * @see DefaultSelector
+ * @see AliasTableSelector
+ * @see TournamentSelector
  * @see EvolutionEngine
  */
 @FunctionalInterface
@@ -102,4 +120,54 @@ public interface ISelector {
    * @see ChromosomePair
    */
   ChromosomePair select(Generation generation, double[] fitnessScores);
+
+  /**
+   * Selects the specified number of parent pairs from the current generation
+   * and stores their indices in the output array. The parents of the pair
+   * {@code k} are stored at {@code out[2 * k]} and {@code out[2 * k + 1]}.
+   * <p>
+   * The default implementation calls {@link #select(Generation, double[])}
+   * for every pair and looks up the indices of the returned chromosomes in the
+   * generation, which requires them to be chromosomes of the generation.
+   * {@link EvolutionEngine} does not call it, but breeds directly from the
+   * pairs returned by {@link #select(Generation, double[])} instead.
+   * 
+   * @param generation the current generation containing candidate chromosomes
+   * @param fitnessScores fitness scores for all chromosomes in the generation,
+   *        where {@code fitnessScores[i]} corresponds to
+   *        {@code generation.getChromosome(i)}
+   * @param pairs the number of parent pairs to select
+   * @param out the array receiving the indices of the selected parents; its
+   *        length must be at least {@code 2 * pairs}
+   * @throws NullPointerException if any parameter is {@code null}
+   * @throws IllegalArgumentException if {@code pairs} is negative, the output
+   *         array is too short, or the scores are invalid
+   * @throws IllegalStateException if a selected chromosome does not belong to
+   *         the generation
+   * @see #select(Generation, double[])
+   */
+  default void selectIndices(Generation generation, double[] fitnessScores,
+    int pairs, int[] out)
+  {
+    if (pairs < 0 || out.length < 2 * pairs)
+      throw new IllegalArgumentException("Invalid number of pairs: " + pairs);
+    if (pairs == 0)
+      return;
+
+    // Index the chromosomes by identity, keeping the first index of duplicates
+    Map<Chromosome, Integer> indices = new IdentityHashMap<>();
+    for (int i = generation.size() - 1; i >= 0; i--)
+      indices.put(generation.getChromosome(i), i);
+
+    for (int k = 0; k < pairs; k++) {
+      ChromosomePair pair = select(generation, fitnessScores);
+      Integer first = indices.get(pair.getFirst());
+      Integer second = indices.get(pair.getSecond());
+      if (first == null || second == null)
+        throw new IllegalStateException(
+          "Selected chromosome does not belong to the generation");
+      out[2 * k] = first;
+      out[2 * k + 1] = second;
+    }
+  }
 }
@@ -0,0 +1,151 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Arrays;
+
+/**
+ * A chromosome whose genes are integers, stored in an {@code int} array.
+ * <p>
+ * The genes of an {@code IntChromosome} have {@link Integer} values. They are
+ * created on request by {@link #getGene(int)} and {@link #getGenes()}, while
+ * crossover and mutation between integer chromosomes operate directly on the
+ * array.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see Chromosome
+ */
+public final class IntChromosome extends Chromosome {
+
+  private final int[] values;
+
+  /**
+   * Constructs an IntChromosome from an array of integers. The chromosome
+   * assumes ownership of the array and does not copy it, so callers should not
+   * modify it after construction.
+   * 
+   * @param values the integers that constitute this chromosome
+   * @throws IllegalArgumentException if {@code values} is {@code null}
+   */
+  public IntChromosome(int[] values) {
+    if (values == null)
+      throw new IllegalArgumentException("null");
+    this.values = values;
+  }
+
+  @Override
+  public int length() {
+    return values.length;
+  }
+
+  /**
+   * Returns the integer at a specific index.
+   * 
+   * @param index the index of the gene
+   * @return the integer
+   */
+  public int getInt(int index) {
+    return values[index];
+  }
+
+  /**
+   * Returns a copy of the integers of this chromosome.
+   * 
+   * @return an array of integers
+   */
+  public int[] toIntArray() {
+    return values.clone();
+  }
+
+  @Override
+  public Gene getGene(int index) {
+    return new Gene(values[index]);
+  }
+
+  @Override
+  public Gene[] getGenes() {
+    Gene[] genes = new Gene[values.length];
+    for (int i = 0; i < genes.length; i++)
+      genes[i] = new Gene(values[i]);
+    return genes;
+  }
+
+  @Override
+  public ChromosomePair crossover(Chromosome chromosome, int position) {
+    if (!(chromosome instanceof IntChromosome) || !isCompatible(chromosome))
+      return super.crossover(chromosome, position);
+    int[] other = ((IntChromosome)chromosome).values;
+    int tail = values.length - position;
+    int[] values1 = new int[values.length];
+    int[] values2 = new int[values.length];
+    System.arraycopy(values, 0, values1, 0, position);
+    System.arraycopy(other, position, values1, position, tail);
+    System.arraycopy(other, 0, values2, 0, position);
+    System.arraycopy(values, position, values2, position, tail);
+    return new ChromosomePair(new IntChromosome(values1),
+      new IntChromosome(values2));
+  }
+
+  @Override
+  public Chromosome swapGenes(int index1, int index2) {
+    int[] copies = values.clone();
+    int temp = copies[index1];
+    copies[index1] = copies[index2];
+    copies[index2] = temp;
+    return new IntChromosome(copies);
+  }
+
+  @Override
+  protected int computeHashCode() {
+    int h = 1;
+    for (int i = 0; i < values.length; i++)
+      h = 31 * h + values[i];
+    return h;
+  }
+
+  @Override
+  protected boolean equalGenes(Chromosome chromosome) {
+    if (chromosome instanceof IntChromosome)
+      return Arrays.equals(values, ((IntChromosome)chromosome).values);
+    return super.equalGenes(chromosome);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(32);
+    for (int i = 0; i < values.length; i++)
+      builder.append(values[i]);
+    return builder.toString();
+  }
+}
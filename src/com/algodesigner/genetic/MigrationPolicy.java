@@ -0,0 +1,123 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+/**
+ * MigrationPolicy class defines how the islands of a
+ * {@link CompositeEvolutionEngine} exchange chromosomes. Every
+ * {@code interval} generations each island sends copies of its
+ * {@code migrantCount} fittest chromosomes to the islands selected by the
+ * migration topology, where they replace chromosomes of the current
+ * generation.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see CompositeEvolutionEngine#setMigrationPolicy(MigrationPolicy)
+ */
+public class MigrationPolicy {
+
+  /**
+   * Migration topologies, i.e. the islands each island sends its migrants to.
+   */
+  public enum Topology {
+
+    /**
+     * Each island sends migrants to the next island, the last island to the
+     * first.
+     */
+    RING,
+
+    /**
+     * Each island sends migrants to all the other islands.
+     */
+    FULLY_CONNECTED,
+
+    /**
+     * Each island sends migrants to another island chosen at random on every
+     * migration.
+     */
+    RANDOM
+  }
+
+  private final int interval;
+  private final int migrantCount;
+  private final Topology topology;
+
+  /**
+   * Constructs a MigrationPolicy object.
+   * 
+   * @param interval the number of generations between migrations; must be
+   *        positive
+   * @param migrantCount the number of chromosomes each island sends on every
+   *        migration; must be positive
+   * @param topology the migration topology; cannot be {@code null}
+   */
+  public MigrationPolicy(int interval, int migrantCount, Topology topology) {
+    if (interval < 1)
+      throw new IllegalArgumentException("Invalid interval");
+    if (migrantCount < 1)
+      throw new IllegalArgumentException("Invalid migrantCount");
+    if (topology == null)
+      throw new IllegalArgumentException("null");
+    this.interval = interval;
+    this.migrantCount = migrantCount;
+    this.topology = topology;
+  }
+
+  /**
+   * Returns the number of generations between migrations.
+   * 
+   * @return the migration interval
+   */
+  public int getInterval() {
+    return interval;
+  }
+
+  /**
+   * Returns the number of chromosomes each island sends on every migration.
+   * 
+   * @return the number of migrants
+   */
+  public int getMigrantCount() {
+    return migrantCount;
+  }
+
+  /**
+   * Returns the migration topology.
+   * 
+   * @return the migration topology
+   */
+  public Topology getTopology() {
+    return topology;
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+/**
+ * A chromosome whose genes can be overwritten, so that a single instance can
+ * be recycled for the offspring of many generations. The engine keeps an arena
+ * of these chromosomes, one per population slot and buffer, when chromosome
+ * recycling is enabled, and the crossover and mutation strategies write the
+ * offspring straight into them through
+ * {@link ICrossoverStrategy#crossoverInto(Chromosome, Chromosome,
+ * MutableChromosome, MutableChromosome)}
+ * and {@link IMutationStrategy#mutateInPlace(MutableChromosome)}. Steady-state
+ * breeding then allocates no gene arrays, chromosomes or chromosome pairs.
+ * <p>
+ * The genes are kept in an array that is only reallocated when the length
+ * changes. The hash code is not cached, as it changes with the genes, so a
+ * mutable chromosome must not be used as a key of a hash-based collection
+ * while it can still be overwritten; {@link #toChromosome()} returns an
+ * immutable copy for that purpose. The operations inherited from
+ * {@link Chromosome}, such as {@link #crossover(Chromosome, int)} and
+ * {@link #swapGenes(int, int)}, return new immutable chromosomes and leave this
+ * chromosome unchanged.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see EvolutionEngineBuilder#setChromosomeRecyclingEnabled(boolean)
+ */
+public final class MutableChromosome extends Chromosome {
+
+  private static final Gene[] NO_GENES = new Gene[0];
+
+  private Gene[] genes;
+
+  /**
+   * Constructs an empty chromosome.
+   */
+  public MutableChromosome() {
+    this.genes = NO_GENES;
+  }
+
+  /**
+   * Constructs a chromosome with the genes of the specified chromosome.
+   * 
+   * @param chromosome the chromosome to copy; cannot be {@code null}.
+   */
+  public MutableChromosome(Chromosome chromosome) {
+    this();
+    set(chromosome);
+  }
+
+  @Override
+  public int length() {
+    return genes.length;
+  }
+
+  @Override
+  public Gene getGene(int index) {
+    return genes[index];
+  }
+
+  @Override
+  public Gene[] getGenes() {
+    return genes.clone();
+  }
+
+  /**
+   * Sets the gene at a specific index.
+   * 
+   * @param index the index of the gene
+   * @param gene the gene; cannot be {@code null}.
+   */
+  public void setGene(int index, Gene gene) {
+    if (gene == null)
+      throw new IllegalArgumentException("null");
+    genes[index] = gene;
+  }
+
+  /**
+   * Overwrites the genes of this chromosome with the genes of the specified
+   * chromosome.
+   * 
+   * @param chromosome the chromosome to copy; cannot be {@code null}.
+   */
+  public void set(Chromosome chromosome) {
+    if (chromosome == null)
+      throw new IllegalArgumentException("null");
+    int length = chromosome.length();
+    ensureLength(length);
+    if (chromosome instanceof MutableChromosome) {
+      System.arraycopy(((MutableChromosome)chromosome).genes, 0, genes, 0,
+        length);
+    } else {
+      for (int i = 0; i < length; i++)
+        genes[i] = chromosome.getGene(i);
+    }
+  }
+
+  /**
+   * Overwrites the genes of this chromosome with the first child of a
+   * single-point crossover of the specified chromosomes, that is the genes of
+   * {@code first} up to {@code position} (exclusive) followed by the genes of
+   * {@code second} from {@code position} onwards. The second child is obtained
+   * by calling this method on another chromosome with the parents swapped.
+   * Neither parent may be this chromosome.
+   * 
+   * @param first the parent providing the head of the genes
+   * @param second the parent providing the tail of the genes; must be
+   *        compatible with {@code first}
+   * @param position the crossover point, between {@code 0} and
+   *        {@code length() - 1}
+   * @throws IncompatibleChromosomeException if the chromosomes are not
+   *         compatible
+   * @see Chromosome#crossover(Chromosome, int)
+   */
+  public void setCrossover(Chromosome first, Chromosome second, int position) {
+    if (!first.isCompatible(second))
+      throw new IncompatibleChromosomeException(
+        "Crossover cannot be performed as chromosomes are not compatible");
+    int length = first.length();
+    ensureLength(length);
+    copyGenes(first, 0, position);
+    copyGenes(second, position, length);
+  }
+
+  /**
+   * Swaps the genes at the specified positions of this chromosome.
+   * 
+   * @param index1 the position of the first gene
+   * @param index2 the position of the second gene
+   * @see Chromosome#swapGenes(int, int)
+   */
+  public void swapGenesInPlace(int index1, int index2) {
+    Gene temp = genes[index1];
+    genes[index1] = genes[index2];
+    genes[index2] = temp;
+  }
+
+  /**
+   * Returns an immutable copy of this chromosome.
+   * 
+   * @return a new chromosome with the current genes of this chromosome
+   */
+  public Chromosome toChromosome() {
+    return new Chromosome(getGenes());
+  }
+
+  /**
+   * Returns the hash code of this chromosome, computed from its current genes
+   * on every call.
+   * 
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    return computeHashCode();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(32);
+    for (int i = 0; i < genes.length; i++)
+      builder.append(genes[i].toString());
+    return builder.toString();
+  }
+
+  private void ensureLength(int length) {
+    if (genes.length != length)
+      genes = new Gene[length];
+  }
+
+  private void copyGenes(Chromosome chromosome, int from, int to) {
+    if (chromosome instanceof MutableChromosome) {
+      System.arraycopy(((MutableChromosome)chromosome).genes, from, genes, from,
+        to - from);
+    } else {
+      for (int i = from; i < to; i++)
+        genes[i] = chromosome.getGene(i);
+    }
+  }
+}
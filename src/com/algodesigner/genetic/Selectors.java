@@ -0,0 +1,133 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Selection steps shared by the built-in selectors: the validation of their
+ * arguments and the pairing of parents, where the second parent of a pair is
+ * drawn again until it differs from the first one. Each selector supplies its
+ * own way of drawing the index of a single parent.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see ISelector
+ */
+final class Selectors {
+
+  private static final int MAX_SELECTIONS = 5;
+
+  private Selectors() {
+  }
+
+  /**
+   * Checks the fitness scores passed to a selector.
+   * 
+   * @param fitnessScores the fitness scores
+   * @throws IllegalArgumentException if there are fewer than two scores
+   */
+  static void checkScores(double[] fitnessScores) {
+    if (fitnessScores.length < 2)
+      throw new IllegalArgumentException("fitnessScores array is too short");
+  }
+
+  /**
+   * Checks the arguments of
+   * {@link ISelector#selectIndices(Generation, double[], int, int[])}.
+   * 
+   * @param fitnessScores the fitness scores
+   * @param pairs the number of parent pairs to select
+   * @param out the array receiving the indices of the selected parents
+   * @throws IllegalArgumentException if there are fewer than two scores,
+   *         {@code pairs} is negative or the output array is too short
+   */
+  static void checkIndices(double[] fitnessScores, int pairs, int[] out) {
+    checkScores(fitnessScores);
+    if (pairs < 0 || out.length < 2 * pairs)
+      throw new IllegalArgumentException("Invalid number of pairs: " + pairs);
+  }
+
+  /**
+   * Selects a pair of distinct parents from a generation.
+   * 
+   * @param generation the generation
+   * @param draw the draw of the index of a single parent
+   * @param size the number of chromosomes to select from
+   * @return the selected parents
+   */
+  static ChromosomePair selectPair(Generation generation, IntSupplier draw,
+    int size)
+  {
+    int firstParentIndex = draw.getAsInt();
+    int secondParentIndex = selectSecond(draw, firstParentIndex, size);
+    return new ChromosomePair(generation.getChromosome(firstParentIndex),
+      generation.getChromosome(secondParentIndex));
+  }
+
+  /**
+   * Selects the indices of the specified number of pairs of distinct parents.
+   * The parents of the pair {@code k} are stored at {@code out[2 * k]} and
+   * {@code out[2 * k + 1]}.
+   * 
+   * @param draw the draw of the index of a single parent
+   * @param size the number of chromosomes to select from
+   * @param pairs the number of parent pairs to select
+   * @param out the array receiving the indices of the selected parents
+   */
+  static void selectIndices(IntSupplier draw, int size, int pairs, int[] out) {
+    for (int k = 0; k < pairs; k++) {
+      int firstParentIndex = draw.getAsInt();
+      out[2 * k] = firstParentIndex;
+      out[2 * k + 1] = selectSecond(draw, firstParentIndex, size);
+    }
+  }
+
+  private static int selectSecond(IntSupplier draw, int firstParentIndex,
+    int size)
+  {
+    int secondParentIndex = 0;
+
+    for (int i = 0; i < MAX_SELECTIONS; i++) {
+      secondParentIndex = draw.getAsInt();
+      if (secondParentIndex != firstParentIndex)
+        break;
+    }
+
+    // If the second index still collides, shift it
+    if (secondParentIndex == firstParentIndex)
+      secondParentIndex =
+        secondParentIndex == size - 1 ? 0 : secondParentIndex + 1;
+    return secondParentIndex;
+  }
+}
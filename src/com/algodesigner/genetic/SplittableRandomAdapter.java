@@ -0,0 +1,120 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Adapts a {@link SplittableRandom} to the {@link Random} API expected by the
+ * genetic operators. Unlike {@code Random}, the adapter is not thread-safe and
+ * does not synchronise on an atomic seed, so it is intended to be confined to
+ * a single thread, e.g. the thread evolving one agent of a
+ * {@link CompositeEvolutionEngine}. Independent adapters are obtained with
+ * {@link #split()}.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+class SplittableRandomAdapter extends Random {
+
+  private static final long serialVersionUID = 0;
+
+  private final SplittableRandom random;
+
+  /**
+   * Constructs this adapter with a given seed.
+   * 
+   * @param seed the initial seed
+   */
+  SplittableRandomAdapter(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  private SplittableRandomAdapter(SplittableRandom random) {
+    this.random = random;
+  }
+
+  /**
+   * Returns a new adapter backed by a generator split off the generator of
+   * this adapter. The streams of both adapters are statistically independent.
+   * 
+   * @return a new adapter
+   */
+  SplittableRandomAdapter split() {
+    return new SplittableRandomAdapter(random.split());
+  }
+
+  /**
+   * Not supported once the adapter is constructed, since a
+   * {@code SplittableRandom} cannot be reseeded.
+   * 
+   * @throws UnsupportedOperationException always, after construction
+   */
+  @Override
+  public void setSeed(long seed) {
+    // Invoked by the constructor of Random before the generator is assigned
+    if (random != null)
+      throw new UnsupportedOperationException();
+  }
+
+  @Override
+  protected int next(int bits) {
+    return (int)(random.nextLong() >>> (64 - bits));
+  }
+
+  @Override
+  public int nextInt() {
+    return random.nextInt();
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return random.nextInt(bound);
+  }
+
+  @Override
+  public long nextLong() {
+    return random.nextLong();
+  }
+
+  @Override
+  public double nextDouble() {
+    return random.nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return random.nextBoolean();
+  }
+}
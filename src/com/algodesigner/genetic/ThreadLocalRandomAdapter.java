@@ -0,0 +1,102 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link Random} that delegates to the {@link ThreadLocalRandom} of the
+ * calling thread. A single instance can be shared by genetic operators invoked
+ * on many threads, each thread drawing from its own generator without
+ * contending on a shared seed. The generator cannot be seeded.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see EvolutionEngineBuilder
+ */
+class ThreadLocalRandomAdapter extends Random {
+
+  private static final long serialVersionUID = 0;
+
+  private final boolean initialised;
+
+  /**
+   * Constructs this adapter.
+   */
+  ThreadLocalRandomAdapter() {
+    this.initialised = true;
+  }
+
+  /**
+   * Not supported once the adapter is constructed.
+   * 
+   * @throws UnsupportedOperationException always, after construction
+   */
+  @Override
+  public void setSeed(long seed) {
+    // Invoked by the constructor of Random before the flag is assigned
+    if (initialised)
+      throw new UnsupportedOperationException();
+  }
+
+  @Override
+  protected int next(int bits) {
+    return ThreadLocalRandom.current().nextInt() >>> (32 - bits);
+  }
+
+  @Override
+  public int nextInt() {
+    return ThreadLocalRandom.current().nextInt();
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return ThreadLocalRandom.current().nextInt(bound);
+  }
+
+  @Override
+  public long nextLong() {
+    return ThreadLocalRandom.current().nextLong();
+  }
+
+  @Override
+  public double nextDouble() {
+    return ThreadLocalRandom.current().nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return ThreadLocalRandom.current().nextBoolean();
+  }
+}
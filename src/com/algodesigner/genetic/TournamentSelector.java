@@ -0,0 +1,116 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Tournament selection strategy. Each parent is the fittest of {@code k}
+ * chromosomes drawn uniformly at random (with replacement) from the
+ * generation.
+ * <p>
+ * Unlike roulette wheel selection, tournament selection does not pass over the
+ * whole population: each pick costs O(k) regardless of the size of the
+ * generation, and no memory is allocated per pick. Only the relative order of the fitness scores
+ * matters, so the scores may be negative. Larger tournaments increase the
+ * selection pressure.
+ * <p>
+ * As with {@link DefaultSelector}, the two parents of a pair are never the same
+ * chromosome.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ * @see DefaultSelector
+ */
+public class TournamentSelector implements ISelector {
+
+  private final int tournamentSize;
+  private final Random random;
+
+  /**
+   * Constructs a TournamentSelector with a new Random instance.
+   * 
+   * @param tournamentSize the number of chromosomes competing for each pick;
+   *        must be positive.
+   */
+  public TournamentSelector(int tournamentSize) {
+    this(tournamentSize, new Random());
+  }
+
+  /**
+   * Constructs this chromosome pair selector.
+   * 
+   * @param tournamentSize the number of chromosomes competing for each pick;
+   *        must be positive.
+   * @param random a pseudorandom number generator; cannot be {@code null}.
+   */
+  public TournamentSelector(int tournamentSize, Random random) {
+    if (tournamentSize < 1)
+      throw new IllegalArgumentException("tournament size must be positive");
+    this.tournamentSize = tournamentSize;
+    this.random = Objects.requireNonNull(random);
+  }
+
+  @Override
+  public ChromosomePair select(Generation generation, double[] fitnessScores) {
+
+    Selectors.checkScores(fitnessScores);
+    return Selectors.selectPair(generation, () -> selectSingle(fitnessScores),
+      fitnessScores.length);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation does not allocate any memory per pair.
+   */
+  @Override
+  public void selectIndices(Generation generation, double[] fitnessScores,
+    int pairs, int[] out)
+  {
+    Selectors.checkIndices(fitnessScores, pairs, out);
+    Selectors.selectIndices(() -> selectSingle(fitnessScores),
+      fitnessScores.length, pairs, out);
+  }
+
+  private int selectSingle(double[] fitnessScores) {
+    int winner = random.nextInt(fitnessScores.length);
+    for (int i = 1; i < tournamentSize; i++) {
+      int contender = random.nextInt(fitnessScores.length);
+      if (fitnessScores[contender] > fitnessScores[winner])
+        winner = contender;
+    }
+    return winner;
+  }
+}
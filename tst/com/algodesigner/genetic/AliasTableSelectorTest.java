@@ -0,0 +1,154 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * AliasTableSelector test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class AliasTableSelectorTest {
+
+  private static Generation createTestGeneration(int size) {
+    Chromosome[] chromosomes = new Chromosome[size];
+    for (int i = 0; i < size; i++)
+      chromosomes[i] = new Chromosome(Integer.toString(i));
+    return new Generation(chromosomes);
+  }
+
+  private static int indexOf(Generation generation, Chromosome chromosome) {
+    for (int i = 0; i < generation.size(); i++) {
+      if (generation.getChromosome(i) == chromosome)
+        return i;
+    }
+    return -1;
+  }
+
+  @Test
+  public void testConstructorDefaultRandom() {
+    assertNotNull(new AliasTableSelector());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testConstructorNullRandom() {
+    new AliasTableSelector(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSelectScoresTooShort() {
+    new AliasTableSelector().select(createTestGeneration(2),
+      new double[] { 1 });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSelectNegativeScores() {
+    new AliasTableSelector().select(createTestGeneration(4),
+      new double[] { 1, -1, 1, 1 });
+  }
+
+  @Test
+  public void testSelectDifferentParents() {
+    AliasTableSelector selector = new AliasTableSelector(new Random(12345));
+    Generation generation = createTestGeneration(4);
+    double[] fitnessScores = { 1000, 0.001, 0.001, 0.001 };
+    for (int i = 0; i < 1000; i++) {
+      ChromosomePair pair = selector.select(generation, fitnessScores);
+      assertNotSame(pair.getFirst(), pair.getSecond());
+    }
+  }
+
+  @Test
+  public void testSelectZeroScores() {
+    AliasTableSelector selector = new AliasTableSelector(new Random(12345));
+    Generation generation = createTestGeneration(4);
+    ChromosomePair pair = selector.select(generation, new double[4]);
+    assertNotSame(pair.getFirst(), pair.getSecond());
+  }
+
+  @Test
+  public void testSelectModifiedScores() {
+    AliasTableSelector selector = new AliasTableSelector(new Random(12345));
+    Generation generation = createTestGeneration(4);
+    double[] fitnessScores = { 1, 1, 0, 0 };
+    selector.select(generation, fitnessScores);
+
+    // The same array modified in place must be picked from afresh
+    fitnessScores[0] = fitnessScores[1] = 0;
+    fitnessScores[2] = fitnessScores[3] = 1;
+    ChromosomePair pair = selector.select(generation, fitnessScores);
+    assertTrue(indexOf(generation, pair.getFirst()) >= 2);
+  }
+
+  @Test
+  public void testSelectIndices() {
+    AliasTableSelector selector = new AliasTableSelector(new Random(12345));
+    Generation generation = createTestGeneration(4);
+    int[] indices = new int[200];
+    selector.selectIndices(generation, new double[] { 1, 0, 1, 0 }, 100,
+      indices);
+    for (int k = 0; k < 100; k++) {
+      // Only the first and the third chromosomes can be picked first
+      assertEquals(0, indices[2 * k] % 2);
+      assertTrue(indices[2 * k] != indices[2 * k + 1]);
+    }
+  }
+
+  @Test
+  public void testSelectDistribution() {
+    AliasTableSelector selector = new AliasTableSelector(new Random(12345));
+    Generation generation = createTestGeneration(6);
+    double[] fitnessScores = { 1, 2, 3, 4, 0, 10 };
+    int[] counts = new int[fitnessScores.length];
+    final int samples = 100000;
+    for (int i = 0; i < samples; i++)
+      counts[indexOf(generation,
+        selector.select(generation, fitnessScores).getFirst())]++;
+
+    // The chromosome with zero fitness is never picked as the first parent
+    assertEquals(0, counts[4]);
+    for (int i = 0; i < fitnessScores.length; i++) {
+      double expected = samples * fitnessScores[i] / 20;
+      assertTrue(Math.abs(counts[i] - expected) <= samples * 0.01);
+    }
+  }
+}
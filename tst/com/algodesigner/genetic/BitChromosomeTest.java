@@ -0,0 +1,132 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * BitChromosome test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class BitChromosomeTest {
+
+  private static String createBitString(int length, int seed) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++)
+      builder.append((i * 7 + seed) % 3 == 0 ? '1' : '0');
+    return builder.toString();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullString() {
+    new BitChromosome((String)null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBit() {
+    new BitChromosome("0120");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidLength() {
+    new BitChromosome(new long[2], 64);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsBeyondLength() {
+    new BitChromosome(new long[] { 0b10101 }, 4);
+  }
+
+  @Test
+  public void testWordsWithinLength() {
+    BitChromosome chromosome = new BitChromosome(new long[] { 0b0101 }, 4);
+    assertEquals(new BitChromosome("1010"), chromosome);
+    assertEquals(new BitChromosome("1010").hashCode(), chromosome.hashCode());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testIndexOutOfBounds() {
+    new BitChromosome("0101").getBit(4);
+  }
+
+  @Test
+  public void testGenes() {
+    BitChromosome c = new BitChromosome(new boolean[] { false, true, true });
+    assertEquals(3, c.length());
+    assertFalse(c.getBit(0));
+    assertTrue(c.getBit(1));
+    assertEquals(new Gene(true), c.getGene(2));
+    assertEquals("011", c.toString());
+    assertEquals(6L, c.toLongArray()[0]);
+  }
+
+  @Test
+  public void testMultipleWords() {
+    String bits = createBitString(150, 1);
+    BitChromosome c = new BitChromosome(bits);
+    assertEquals(150, c.length());
+    assertEquals(3, c.toLongArray().length);
+    assertEquals(bits, c.toString());
+  }
+
+  @Test
+  public void testCrossover() {
+    String bits1 = createBitString(150, 1);
+    String bits2 = createBitString(150, 2);
+    Chromosome c1 = new BitChromosome(bits1);
+    Chromosome c2 = new BitChromosome(bits2);
+    for (int position : new int[] { 0, 1, 63, 64, 65, 100, 128, 149 }) {
+      ChromosomePair pair = c1.crossover(c2, position);
+      assertEquals(bits1.substring(0, position) + bits2.substring(position),
+        pair.getFirst().toString());
+      assertEquals(bits2.substring(0, position) + bits1.substring(position),
+        pair.getSecond().toString());
+    }
+  }
+
+  @Test
+  public void testSwapGenes() {
+    Chromosome c = new BitChromosome(createBitString(100, 0));
+    Chromosome swapped = c.swapGenes(0, 99);
+    assertEquals(c.toString().charAt(0), swapped.toString().charAt(99));
+    assertEquals(c.toString().charAt(99), swapped.toString().charAt(0));
+    assertEquals(c.toString().substring(1, 99),
+      swapped.toString().substring(1, 99));
+  }
+}
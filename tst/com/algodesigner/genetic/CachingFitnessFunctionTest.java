@@ -0,0 +1,141 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * CachingFitnessFunction test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class CachingFitnessFunctionTest {
+
+  private final AtomicInteger evaluationCount = new AtomicInteger();
+
+  private final IFitnessFunction countingFitnessFunction = chromosome -> {
+    evaluationCount.incrementAndGet();
+    return chromosome.toString().length();
+  };
+
+  @Test(expected = NullPointerException.class)
+  public void testNullFitnessFunction() {
+    new CachingFitnessFunction(null, 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroCapacity() {
+    new CachingFitnessFunction(countingFitnessFunction, 0);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullEvictionPolicy() {
+    new CachingFitnessFunction(countingFitnessFunction, 10, null);
+  }
+
+  @Test
+  public void testHitsAndMisses() {
+    CachingFitnessFunction fitnessFunction =
+      new CachingFitnessFunction(countingFitnessFunction, 10);
+    assertEquals(4, fitnessFunction.apply(new Chromosome("ABCD")), 0);
+    assertEquals(4, fitnessFunction.apply(new Chromosome("ABCD")), 0);
+    assertEquals(4, fitnessFunction.apply(new CharChromosome("ABCD")), 0);
+    assertEquals(3, fitnessFunction.apply(new Chromosome("ABC")), 0);
+    assertEquals(2, evaluationCount.get());
+    assertEquals(2, fitnessFunction.getHitCount());
+    assertEquals(2, fitnessFunction.getMissCount());
+    assertEquals(2, fitnessFunction.size());
+  }
+
+  @Test
+  public void testLruEviction() {
+    CachingFitnessFunction fitnessFunction =
+      new CachingFitnessFunction(countingFitnessFunction, 2);
+    fitnessFunction.apply(new Chromosome("A"));
+    fitnessFunction.apply(new Chromosome("B"));
+    fitnessFunction.apply(new Chromosome("A"));
+    // Evicts "B", the least recently used entry
+    fitnessFunction.apply(new Chromosome("C"));
+    fitnessFunction.apply(new Chromosome("A"));
+    assertEquals(3, evaluationCount.get());
+    fitnessFunction.apply(new Chromosome("B"));
+    assertEquals(4, evaluationCount.get());
+    assertEquals(2, fitnessFunction.size());
+  }
+
+  @Test
+  public void testFifoEviction() {
+    CachingFitnessFunction fitnessFunction = new CachingFitnessFunction(
+      countingFitnessFunction, 2, CachingFitnessFunction.EvictionPolicy.FIFO);
+    fitnessFunction.apply(new Chromosome("A"));
+    fitnessFunction.apply(new Chromosome("B"));
+    fitnessFunction.apply(new Chromosome("A"));
+    // Evicts "A", the oldest entry
+    fitnessFunction.apply(new Chromosome("C"));
+    fitnessFunction.apply(new Chromosome("A"));
+    assertEquals(4, evaluationCount.get());
+  }
+
+  @Test
+  public void testClear() {
+    CachingFitnessFunction fitnessFunction =
+      new CachingFitnessFunction(countingFitnessFunction, 10);
+    fitnessFunction.apply(new Chromosome("A"));
+    fitnessFunction.apply(new Chromosome("A"));
+    fitnessFunction.clear();
+    assertEquals(0, fitnessFunction.size());
+    assertEquals(0, fitnessFunction.getHitCount());
+    assertEquals(0, fitnessFunction.getMissCount());
+    fitnessFunction.apply(new Chromosome("A"));
+    assertEquals(2, evaluationCount.get());
+  }
+
+  @Test
+  public void testEvolution() {
+    GenerationBuilder builder = new GenerationBuilder();
+    builder.addChromosomes(50, "0101010101");
+    CachingFitnessFunction fitnessFunction = new CachingFitnessFunction(
+      chromosome -> chromosome.toString().indexOf('1') == 0 ? 1 : 0.5, 100);
+    EvolutionEngine engine =
+      new EvolutionEngine(builder.build(), 0.7, 0.5, fitnessFunction, true);
+    engine.findSolution(1, new TerminationCriteria(1000, 100));
+    assertEquals(1, engine.getBestFitnessScore(), 0);
+    assertTrue(fitnessFunction.getHitCount() > 0);
+  }
+}
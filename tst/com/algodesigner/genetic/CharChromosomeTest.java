@@ -0,0 +1,126 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * CharChromosome test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class CharChromosomeTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullString() {
+    new CharChromosome((String)null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullArray() {
+    new CharChromosome((char[])null);
+  }
+
+  @Test
+  public void testGenes() {
+    CharChromosome c = new CharChromosome("ABDBCAA");
+    assertEquals(7, c.length());
+    assertEquals('D', c.charAt(2));
+    assertEquals(new Gene('D'), c.getGene(2));
+    assertArrayEquals(new Chromosome("ABDBCAA").getGenes(), c.getGenes());
+    assertEquals("ABDBCAA", c.toString());
+  }
+
+  @Test
+  public void testToCharArray() {
+    CharChromosome c = new CharChromosome("ABC");
+    char[] chars = c.toCharArray();
+    chars[0] = 'Z';
+    assertEquals("ABC", c.toString());
+  }
+
+  @Test
+  public void testCrossover() {
+    Chromosome c1 = new CharChromosome("0101010101");
+    Chromosome c2 = new CharChromosome("abcdefghij");
+    ChromosomePair pair = c1.crossover(c2, 4);
+    assertTrue(pair.getFirst() instanceof CharChromosome);
+    assertEquals("0101efghij", pair.getFirst().toString());
+    assertEquals("abcd010101", pair.getSecond().toString());
+    assertEquals("0101010101", c1.toString());
+    assertEquals("abcdefghij", c2.toString());
+  }
+
+  @Test
+  public void testCrossoverWithGenericChromosome() {
+    Chromosome c1 = new CharChromosome("0101010101");
+    Chromosome c2 = new Chromosome("abcdefghij");
+    ChromosomePair pair = c1.crossover(c2, 4);
+    assertEquals("0101efghij", pair.getFirst().toString());
+    assertEquals("abcd010101", pair.getSecond().toString());
+  }
+
+  @Test(expected = IncompatibleChromosomeException.class)
+  public void testCrossoverIncompatible() {
+    new CharChromosome("0101").crossover(new CharChromosome("010"), 1);
+  }
+
+  @Test
+  public void testSwapGenes() {
+    Chromosome c = new CharChromosome("0123456789");
+    Chromosome swapped = c.swapGenes(0, 9);
+    assertTrue(swapped instanceof CharChromosome);
+    assertEquals("9123456780", swapped.toString());
+    assertEquals("0123456789", c.toString());
+  }
+
+  @Test
+  public void testCharSequence() {
+    CharChromosome c = new CharChromosome("0123456789");
+    assertTrue(c.getCharSequence() == c);
+    assertEquals("345", c.subSequence(3, 6).toString());
+
+    // Chromosomes of character genes have an equivalent view
+    CharSequence cs = new Chromosome("0123456789").getCharSequence();
+    assertEquals(c.length(), cs.length());
+    for (int i = 0; i < cs.length(); i++)
+      assertEquals(c.charAt(i), cs.charAt(i));
+    assertEquals("345", cs.subSequence(3, 6).toString());
+    assertEquals("0123456789", cs.toString());
+  }
+}
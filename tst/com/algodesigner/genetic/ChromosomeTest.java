@@ -34,9 +34,13 @@ package com.algodesigner.genetic;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 public class ChromosomeTest {
@@ -60,6 +64,13 @@ public class ChromosomeTest {
     assertEquals(new Gene('D'), c.getGene(2));
   }
 
+  @Test
+  public void testInternedGenes() {
+    Chromosome c = new Chromosome("ABAB");
+    assertSame(c.getGene(0), c.getGene(2));
+    assertSame(c.getGene(1), new Chromosome("BBBB").getGene(3));
+  }
+
   @Test
   public void testIsCompatible() {
     Chromosome c = new Chromosome("ABDBCAA");
@@ -83,4 +94,90 @@ public class ChromosomeTest {
     assertEquals("ABDBCAA", new Chromosome("ABDBCAA").toString());
     assertEquals("XXYYZZ", new Chromosome("XXYYZZ").toString());
   }
+
+  @Test
+  public void testCrossover() {
+    Chromosome c1 = new Chromosome("ABCDEF");
+    Chromosome c2 = new Chromosome("uvwxyz");
+    ChromosomePair pair = c1.crossover(c2, 2);
+    assertEquals("ABwxyz", pair.getFirst().toString());
+    assertEquals("uvCDEF", pair.getSecond().toString());
+    assertEquals("ABCDEF", c1.toString());
+    assertEquals("uvwxyz", c2.toString());
+  }
+
+  @Test(expected = IncompatibleChromosomeException.class)
+  public void testCrossoverIncompatible() {
+    new Chromosome("ABCDEF").crossover(new Chromosome("uvw"), 1);
+  }
+
+  @Test
+  public void testSwapGenes() {
+    Chromosome c = new Chromosome("ABCDEF");
+    assertEquals("FBCDEA", c.swapGenes(0, 5).toString());
+    assertEquals("ABCDEF", c.toString());
+  }
+
+  @Test
+  public void testEquals() {
+    Chromosome c = new Chromosome("ABCDEF");
+    assertEquals(c, c);
+    assertEquals(c, new Chromosome("ABCDEF"));
+    assertEquals(c.hashCode(), new Chromosome("ABCDEF").hashCode());
+    assertFalse(c.equals(new Chromosome("ABCDEG")));
+    assertFalse(c.equals(new Chromosome("ABCDE")));
+    assertFalse(c.equals(null));
+    assertFalse(c.equals("ABCDEF"));
+    assertEquals(Arrays.hashCode(c.getGenes()), c.hashCode());
+  }
+
+  @Test
+  public void testGeneList() {
+    Chromosome c = new Chromosome("ABC");
+    List<Gene> genes = c.getGeneList();
+    assertEquals(Arrays.asList(c.getGenes()), genes);
+    assertEquals(genes, new CharChromosome("ABC").getGeneList());
+    try {
+      genes.set(0, Gene.of('X'));
+      fail("Expected UnsupportedOperationException");
+    } catch (UnsupportedOperationException e) {
+    }
+
+    // The view of a mutable chromosome reflects its changes
+    MutableChromosome mc = new MutableChromosome(c);
+    List<Gene> mutableGenes = mc.getGeneList();
+    mc.swapGenesInPlace(0, 2);
+    assertEquals(Gene.of('C'), mutableGenes.get(0));
+    assertEquals(Gene.of('A'), mutableGenes.get(2));
+  }
+
+  @Test
+  public void testEqualsAcrossTypes() {
+    Chromosome c = new Chromosome("ABCDEF");
+    Chromosome cc = new CharChromosome("ABCDEF");
+    assertEquals(c, cc);
+    assertEquals(cc, c);
+    assertEquals(c.hashCode(), cc.hashCode());
+    assertFalse(cc.equals(new CharChromosome("ABCDEG")));
+
+    Chromosome ic = new IntChromosome(new int[] { 1, 2, 3 });
+    Chromosome gc = new Chromosome(new Gene[] { Gene.of(1), Gene.of(2),
+      Gene.of(3) });
+    assertEquals(ic, gc);
+    assertEquals(gc.hashCode(), ic.hashCode());
+    assertEquals(ic, new IntChromosome(new int[] { 1, 2, 3 }));
+    assertFalse(ic.equals(new IntChromosome(new int[] { 1, 2, 4 })));
+
+    Chromosome dc = new DoubleChromosome(new double[] { 0.5, -1 });
+    assertEquals(Arrays.hashCode(dc.getGenes()), dc.hashCode());
+    assertEquals(dc, new DoubleChromosome(new double[] { 0.5, -1 }));
+    assertFalse(dc.equals(new DoubleChromosome(new double[] { 0.5, 1 })));
+
+    Chromosome bc = new BitChromosome("0110");
+    assertEquals(Arrays.hashCode(bc.getGenes()), bc.hashCode());
+    assertEquals(bc, new BitChromosome(new boolean[] { false, true, true,
+      false }));
+    assertFalse(bc.equals(new BitChromosome("0111")));
+    assertFalse(bc.equals(new Chromosome("0110")));
+  }
 }
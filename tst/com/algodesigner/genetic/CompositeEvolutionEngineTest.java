@@ -33,11 +33,19 @@
 package com.algodesigner.genetic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Test;
 
@@ -272,4 +280,158 @@ public class CompositeEvolutionEngineTest {
 
     assertNotNull(baseEngine);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSharedDeadline() {
+    CompositeEvolutionEngine engine = new CompositeEvolutionEngine(
+      createTestGeneration(), CROSSOVER_RATE, MUTATION_RATE,
+      createTestFitnessFunction(), true, NUM_AGENTS);
+    ExecutorService executorService = Executors.newFixedThreadPool(NUM_AGENTS);
+    try {
+      engine.setExecutorService(executorService);
+
+      // The agents run concurrently, so the search takes one time budget
+      // rather than one per agent
+      long startTime = System.currentTimeMillis();
+      assertEquals(-1, engine.findSolution(2.0, new TerminationCriteria(300,
+        -1)));
+      assertTrue(System.currentTimeMillis() - startTime < 300 * NUM_AGENTS);
+      assertTrue(engine.getGenerationCount() > 0);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testSequentialByDefault() {
+    Thread caller = Thread.currentThread();
+    AtomicBoolean otherThread = new AtomicBoolean();
+    IFitnessFunction fitnessFunction = createTestFitnessFunction();
+    CompositeEvolutionEngine engine = new CompositeEvolutionEngine(
+      createTestGeneration(), CROSSOVER_RATE, MUTATION_RATE, chromosome -> {
+        if (Thread.currentThread() != caller)
+          otherThread.set(true);
+        return fitnessFunction.apply(chromosome);
+      }, true, NUM_AGENTS);
+    engine.findSolution(2.0, new TerminationCriteria(-1, 5));
+    assertFalse(otherThread.get());
+    assertEquals(5, engine.getGenerationCount());
+  }
+
+  @Test
+  public void testEarlyCancellation() {
+    // The first generation evaluated by an agent contains the solution
+    GenerationBuilder builder = new GenerationBuilder();
+    builder.addChromosomes(10, "000000");
+    CompositeEvolutionEngine engine = new CompositeEvolutionEngine(
+      builder.build(), CROSSOVER_RATE, MUTATION_RATE,
+      createTestFitnessFunction(), true, NUM_AGENTS);
+    assertEquals(0, engine.findSolution(1.0, null));
+    assertEquals(1.0, engine.getBestFitnessScore(), 0);
+    assertEquals(0, engine.getGenerationCount());
+  }
+
+  @Test
+  public void testExecutorService() {
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      CompositeEvolutionEngine engine = new CompositeEvolutionEngine(
+        createTestGeneration(), CROSSOVER_RATE, MUTATION_RATE,
+        createTestFitnessFunction(), true, NUM_AGENTS);
+      engine.setExecutorService(executorService);
+      assertTrue(engine.findSolution(1.0, null) >= 0);
+      assertEquals(1.0, engine.getBestFitnessScore(), 1e-8);
+      assertFalse(executorService.isShutdown());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAgentFailure() {
+    CompositeEvolutionEngine engine =
+      new CompositeEvolutionEngine(createTestGeneration(), CROSSOVER_RATE,
+        MUTATION_RATE, $ -> Double.NaN, true, NUM_AGENTS);
+    engine.findSolution(1.0, null);
+  }
+
+  @Test
+  public void testMigration() {
+    for (MigrationPolicy.Topology topology : MigrationPolicy.Topology
+      .values())
+    {
+      CompositeEvolutionEngine engine = new CompositeEvolutionEngine(
+        createTestGeneration(), CROSSOVER_RATE, MUTATION_RATE,
+        createTestFitnessFunction(), true, NUM_AGENTS);
+      engine.setMigrationPolicy(new MigrationPolicy(5, 2, topology));
+      assertTrue(engine.findSolution(1.0, null) >= 0);
+      assertEquals(1.0, engine.getBestFitnessScore(), 1e-8);
+    }
+  }
+
+  @Test
+  public void testMigrationReplacesChromosomes() {
+    EvolutionEngine engine = new EvolutionEngine(createTestGeneration(),
+      CROSSOVER_RATE, MUTATION_RATE, createTestFitnessFunction(), true);
+    assertEquals(0, engine.getFittestChromosomes(2).length);
+    engine.step(2.0);
+    Chromosome[] fittest = engine.getFittestChromosomes(2);
+    assertEquals(2, fittest.length);
+    assertTrue(createTestFitnessFunction().apply(fittest[0]) >=
+      createTestFitnessFunction().apply(fittest[1]));
+
+    Chromosome immigrant = new Chromosome(
+      "000000000000000000000000000000000000000000000000");
+    engine.replaceChromosomes(new Chromosome[] { immigrant });
+    Generation generation = engine.getGeneration();
+    assertSame(immigrant, generation.getChromosome(generation.size() - 1));
+    assertEquals(generation.size() - 1, engine.step(1.0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMigrationPolicy() {
+    new MigrationPolicy(0, 1, MigrationPolicy.Topology.RING);
+  }
+
+  @Test
+  public void testSeededAgents() {
+    CompositeEvolutionEngine engine1 = new CompositeEvolutionEngine(
+      createTestGeneration(), CROSSOVER_RATE, MUTATION_RATE,
+      createTestFitnessFunction(), true, NUM_AGENTS, 42);
+    CompositeEvolutionEngine engine2 = new CompositeEvolutionEngine(
+      createTestGeneration(), CROSSOVER_RATE, MUTATION_RATE,
+      createTestFitnessFunction(), true, NUM_AGENTS, 42);
+
+    // An unreachable target makes every agent evolve the same number of
+    // generations regardless of thread scheduling
+    TerminationCriteria criteria = new TerminationCriteria(-1, 20);
+    assertEquals(-1, engine1.findSolution(2.0, criteria));
+    assertEquals(-1, engine2.findSolution(2.0, criteria));
+    assertEquals(20, engine1.getGenerationCount());
+    assertEquals(engine1.getBestFitnessScore(), engine2.getBestFitnessScore(),
+      0);
+    assertEquals(engine1.getGeneration().toString(),
+      engine2.getGeneration().toString());
+  }
+
+  @Test
+  public void testStrategyFactories() {
+    List<Random> randoms = new ArrayList<>();
+    CompositeEvolutionEngine engine =
+      new CompositeEvolutionEngine(createTestGeneration(), random -> {
+        randoms.add(random);
+        return new DefaultSelector(random);
+      }, random -> {
+        randoms.add(random);
+        return new DefaultCrossoverStrategy(CROSSOVER_RATE, random);
+      }, random -> {
+        randoms.add(random);
+        return new DefaultMutationStrategy(MUTATION_RATE, random);
+      }, createTestFitnessFunction(), true, NUM_AGENTS, 42);
+
+    // Every strategy of every agent has its own random number generator
+    assertEquals(3 * NUM_AGENTS, randoms.size());
+    assertEquals(randoms.size(), new HashSet<>(randoms).size());
+    assertTrue(engine.findSolution(1.0, null) >= 0);
+  }
+}
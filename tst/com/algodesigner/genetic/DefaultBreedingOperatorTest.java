@@ -0,0 +1,111 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * DefaultBreedingOperator test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class DefaultBreedingOperatorTest {
+
+  @Test
+  public void testMatchesSeparateStrategies() {
+    checkMatchesSeparateStrategies(new Chromosome("01234567890123456789"),
+      new Chromosome("abcdefghijklmnopqrst"));
+    checkMatchesSeparateStrategies(new CharChromosome("01234567890123456789"),
+      new CharChromosome("abcdefghijklmnopqrst"));
+  }
+
+  private static void checkMatchesSeparateStrategies(Chromosome parent1,
+    Chromosome parent2)
+  {
+    DefaultCrossoverStrategy crossoverStrategy =
+      new DefaultCrossoverStrategy(0.5, new Random(12345));
+    DefaultMutationStrategy mutationStrategy =
+      new DefaultMutationStrategy(0.5, new Random(54321));
+    DefaultBreedingOperator operator = new DefaultBreedingOperator(
+      new DefaultCrossoverStrategy(0.5, new Random(12345)),
+      new DefaultMutationStrategy(0.5, new Random(54321)));
+
+    for (int i = 0; i < 100; i++) {
+      ChromosomePair crossed = crossoverStrategy.crossover(parent1, parent2);
+      Chromosome expected1 = mutationStrategy.mutate(crossed.getFirst());
+      Chromosome expected2 = mutationStrategy.mutate(crossed.getSecond());
+      ChromosomePair pair = operator.breed(parent1, parent2);
+      assertEquals(expected1, pair.getFirst());
+      assertEquals(expected2, pair.getSecond());
+      assertEquals(expected1.getClass(), pair.getFirst().getClass());
+      assertEquals(expected1 == parent1, pair.getFirst() == parent1);
+      assertEquals(expected2 == parent2, pair.getSecond() == parent2);
+      parent1 = expected1;
+      parent2 = expected2;
+    }
+  }
+
+  @Test
+  public void testZeroRates() {
+    DefaultBreedingOperator operator =
+      new DefaultBreedingOperator(0, 0, new Random(12345));
+    Chromosome parent1 = new Chromosome("0101010101");
+    Chromosome parent2 = new Chromosome("1010101010");
+    ChromosomePair pair = operator.breed(parent1, parent2);
+    assertSame(parent1, pair.getFirst());
+    assertSame(parent2, pair.getSecond());
+  }
+
+  @Test
+  public void testIncompatibleChromosomes() {
+    DefaultBreedingOperator operator =
+      new DefaultBreedingOperator(1.0, 0, new Random(12345));
+    try {
+      operator.breed(new Chromosome("0101"), new Chromosome("010"));
+      fail("Expected IncompatibleChromosomeException");
+    } catch (IncompatibleChromosomeException e) {
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeRate() {
+    new DefaultBreedingOperator(0.5, -0.1, new Random());
+  }
+}
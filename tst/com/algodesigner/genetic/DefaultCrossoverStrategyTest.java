@@ -368,6 +368,27 @@ public class DefaultCrossoverStrategyTest {
     }
   }
 
+  @Test
+  public void testCrossoverIntoMatchesCrossover() {
+    DefaultCrossoverStrategy strategy1 =
+      new DefaultCrossoverStrategy(0.7, new Random(12345));
+    DefaultCrossoverStrategy strategy2 =
+      new DefaultCrossoverStrategy(0.7, new Random(12345));
+    Chromosome chromosome1 = new Chromosome("01010101010101010101");
+    Chromosome chromosome2 = new Chromosome("10101010101010101010");
+    MutableChromosome offspring1 = new MutableChromosome();
+    MutableChromosome offspring2 = new MutableChromosome();
+
+    for (int i = 0; i < 20; i++) {
+      ChromosomePair expected = strategy1.crossover(chromosome1, chromosome2);
+      boolean crossed = strategy2.crossoverInto(chromosome1, chromosome2,
+        offspring1, offspring2);
+      assertEquals(expected.getFirst(), offspring1);
+      assertEquals(expected.getSecond(), offspring2);
+      assertEquals(expected.getFirst() != chromosome1, crossed);
+    }
+  }
+
   // Helper method for assertion
   private void assertNotEquals(String expected, String actual) {
     if (expected.equals(actual)) {
@@ -323,4 +323,22 @@ public class DefaultMutationStrategyTest {
       // Verified mutation happened
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testMutateInPlaceMatchesMutate() {
+    DefaultMutationStrategy strategy1 =
+      new DefaultMutationStrategy(0.5, new Random(12345));
+    DefaultMutationStrategy strategy2 =
+      new DefaultMutationStrategy(0.5, new Random(12345));
+    Chromosome chromosome = new Chromosome("0123456789");
+    MutableChromosome offspring = new MutableChromosome(chromosome);
+
+    for (int i = 0; i < 20; i++) {
+      Chromosome expected = strategy1.mutate(chromosome);
+      boolean mutated = strategy2.mutateInPlace(offspring);
+      assertEquals(expected, offspring);
+      assertEquals(expected != chromosome, mutated);
+      chromosome = expected;
+    }
+  }
+}
@@ -35,6 +35,7 @@ package com.algodesigner.genetic;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Random;
@@ -370,4 +371,134 @@ public class DefaultSelectorTest {
     assertNotNull(pair);
     assertEquals(2, generation.size());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSelectMatchesLinearScan() {
+    Generation generation = createTestGeneration(64);
+    double[] fitnessScores = new double[64];
+    Random scoreRandom = new Random(42);
+    for (int i = 0; i < fitnessScores.length; i++)
+      fitnessScores[i] = i % 7 == 0 ? 0 : scoreRandom.nextDouble();
+
+    DefaultSelector selector = new DefaultSelector(new Random(12345));
+    Random reference = new Random(12345);
+    for (int i = 0; i < 1000; i++) {
+      ChromosomePair pair = selector.select(generation, fitnessScores);
+      int first = selectLinear(reference, fitnessScores);
+      int second = 0;
+      for (int j = 0; j < 5; j++) {
+        second = selectLinear(reference, fitnessScores);
+        if (second != first)
+          break;
+      }
+      if (second == first)
+        second = second == fitnessScores.length - 1 ? 0 : second + 1;
+      assertSame(generation.getChromosome(first), pair.getFirst());
+      assertSame(generation.getChromosome(second), pair.getSecond());
+    }
+  }
+
+  @Test
+  public void testSelectNewScores() {
+    Generation generation = createTestGeneration(4);
+    DefaultSelector selector = new DefaultSelector(new Random(12345));
+
+    // Only the first two chromosomes can be selected
+    ChromosomePair pair =
+      selector.select(generation, new double[] { 1, 1, 0, 0 });
+    assertTrue(pair.getFirst() == generation.getChromosome(0)
+      || pair.getFirst() == generation.getChromosome(1));
+
+    // A new score array must not reuse the previous running totals
+    pair = selector.select(generation, new double[] { 0, 0, 1, 1 });
+    assertTrue(pair.getFirst() == generation.getChromosome(2)
+      || pair.getFirst() == generation.getChromosome(3));
+  }
+
+  @Test
+  public void testSelectModifiedScores() {
+    Generation generation = createTestGeneration(4);
+    DefaultSelector selector = new DefaultSelector(new Random(12345));
+    double[] fitnessScores = { 1, 1, 0, 0 };
+    selector.select(generation, fitnessScores);
+
+    // The same array modified in place must be picked from afresh
+    fitnessScores[0] = fitnessScores[1] = 0;
+    fitnessScores[2] = fitnessScores[3] = 1;
+    ChromosomePair pair = selector.select(generation, fitnessScores);
+    assertTrue(pair.getFirst() == generation.getChromosome(2)
+      || pair.getFirst() == generation.getChromosome(3));
+  }
+
+  @Test
+  public void testSelectIndices() {
+    DefaultSelector selector = new DefaultSelector(new Random(12345));
+    Generation generation = createTestGeneration(10);
+    double[] fitnessScores = createTestFitnessScores(10);
+    int[] indices = new int[20];
+    selector.selectIndices(generation, fitnessScores, 10, indices);
+    for (int k = 0; k < 10; k++) {
+      assertTrue(indices[2 * k] >= 0 && indices[2 * k] < 10);
+      assertTrue(indices[2 * k + 1] >= 0 && indices[2 * k + 1] < 10);
+      assertTrue(indices[2 * k] != indices[2 * k + 1]);
+    }
+  }
+
+  @Test
+  public void testSelectIndicesMatchesSelect() {
+    Generation generation = createTestGeneration(10);
+    double[] fitnessScores = createTestFitnessScores(10);
+    DefaultSelector selector1 = new DefaultSelector(new Random(12345));
+    DefaultSelector selector2 = new DefaultSelector(new Random(12345));
+    int[] indices = new int[200];
+    selector1.selectIndices(generation, fitnessScores, 100, indices);
+    for (int k = 0; k < 100; k++) {
+      ChromosomePair pair = selector2.select(generation, fitnessScores);
+      assertSame(generation.getChromosome(indices[2 * k]), pair.getFirst());
+      assertSame(generation.getChromosome(indices[2 * k + 1]),
+        pair.getSecond());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSelectIndicesOutputTooShort() {
+    new DefaultSelector().selectIndices(createTestGeneration(10),
+      createTestFitnessScores(10), 3, new int[5]);
+  }
+
+  @Test
+  public void testDefaultSelectIndices() {
+    // A selector that only implements select() and always picks 3 and 1
+    Generation generation = createTestGeneration(4);
+    ISelector selector = (g, scores) -> new ChromosomePair(g.getChromosome(3),
+      g.getChromosome(1));
+    int[] indices = new int[4];
+    selector.selectIndices(generation, new double[4], 2, indices);
+    assertEquals(3, indices[0]);
+    assertEquals(1, indices[1]);
+    assertEquals(3, indices[2]);
+    assertEquals(1, indices[3]);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDefaultSelectIndicesForeignChromosome() {
+    Chromosome foreign = new Chromosome("0101010101");
+    ISelector selector = (g, scores) -> new ChromosomePair(foreign, foreign);
+    selector.selectIndices(createTestGeneration(4), new double[4], 1,
+      new int[2]);
+  }
+
+  private static int selectLinear(Random random, double[] fitnessScores) {
+    double totalScore = 0;
+    for (int i = 0; i < fitnessScores.length; i++)
+      totalScore += fitnessScores[i];
+    double slice = random.nextDouble() * totalScore;
+    double runningScore = 0;
+    for (int i = 0; i < fitnessScores.length; i++) {
+      runningScore += fitnessScores[i];
+      if (runningScore >= slice)
+        return i;
+    }
+    throw new IllegalStateException("Selection failed");
+  }
+}
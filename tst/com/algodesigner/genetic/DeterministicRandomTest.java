@@ -0,0 +1,90 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * DeterministicRandom test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class DeterministicRandomTest {
+
+  @Test
+  public void testReseed() {
+    DeterministicRandom random = new DeterministicRandom(1);
+    random.reseed(5, 3);
+    long first = random.nextLong();
+    int second = random.nextInt(100);
+    random.reseed(5, 4);
+    assertTrue(first != random.nextLong());
+    random.reseed(5, 3);
+    assertEquals(first, random.nextLong());
+    assertEquals(second, random.nextInt(100));
+
+    DeterministicRandom other = new DeterministicRandom(2);
+    other.reseed(5, 3);
+    assertTrue(first != other.nextLong());
+  }
+
+  @Test
+  public void testThreadConfinement() throws InterruptedException {
+    DeterministicRandom random = new DeterministicRandom(1);
+    random.reseed(0, 0);
+    long expected = random.nextLong();
+    random.reseed(0, 0);
+
+    // Draws on another thread do not advance the stream of this thread
+    AtomicLong drawn = new AtomicLong();
+    Thread thread = new Thread(() -> {
+      random.reseed(0, 0);
+      drawn.set(random.nextLong());
+    });
+    thread.start();
+    thread.join();
+    assertEquals(expected, drawn.get());
+    assertEquals(expected, random.nextLong());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSetSeed() {
+    new DeterministicRandom(1).setSeed(2);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * DoubleChromosome test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class DoubleChromosomeTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullArray() {
+    new DoubleChromosome(null);
+  }
+
+  @Test
+  public void testGenes() {
+    DoubleChromosome c = new DoubleChromosome(new double[] { 0.5, 1.5 });
+    assertEquals(2, c.length());
+    assertEquals(1.5, c.getDouble(1), 0);
+    assertEquals(new Gene(1.5), c.getGene(1));
+    assertArrayEquals(new Gene[] { new Gene(0.5), new Gene(1.5) },
+      c.getGenes());
+    assertArrayEquals(new double[] { 0.5, 1.5 }, c.toDoubleArray(), 0);
+  }
+
+  @Test
+  public void testCrossover() {
+    Chromosome c1 = new DoubleChromosome(new double[] { 1, 2, 3 });
+    Chromosome c2 = new DoubleChromosome(new double[] { 4, 5, 6 });
+    ChromosomePair pair = c1.crossover(c2, 2);
+    assertTrue(pair.getSecond() instanceof DoubleChromosome);
+    assertArrayEquals(new double[] { 1, 2, 6 },
+      ((DoubleChromosome)pair.getFirst()).toDoubleArray(), 0);
+    assertArrayEquals(new double[] { 4, 5, 3 },
+      ((DoubleChromosome)pair.getSecond()).toDoubleArray(), 0);
+  }
+
+  @Test
+  public void testSwapGenes() {
+    Chromosome c = new DoubleChromosome(new double[] { 1, 2, 3 });
+    assertArrayEquals(new double[] { 3, 2, 1 },
+      ((DoubleChromosome)c.swapGenes(0, 2)).toDoubleArray(), 0);
+  }
+}
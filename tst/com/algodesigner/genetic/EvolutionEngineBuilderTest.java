@@ -0,0 +1,160 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * EvolutionEngineBuilder test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class EvolutionEngineBuilderTest {
+
+  private static final IFitnessFunction FITNESS_FUNCTION =
+    chromosome -> chromosome.toString().indexOf('1') + 1;
+
+  private static Generation createTestGeneration() {
+    GenerationBuilder builder = new GenerationBuilder();
+    builder.addChromosomes(10, "0001");
+    return builder.build();
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullGeneration() {
+    new EvolutionEngineBuilder(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullFitnessFunction() {
+    new EvolutionEngineBuilder(createTestGeneration()).setFitnessFunction(null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMissingFitnessFunction() {
+    new EvolutionEngineBuilder(createTestGeneration()).setCrossoverRate(0.7)
+      .setMutationRate(0.1).build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMissingCrossoverRate() {
+    new EvolutionEngineBuilder(createTestGeneration())
+      .setFitnessFunction(FITNESS_FUNCTION).setMutationRate(0.1).build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMissingMutationRate() {
+    new EvolutionEngineBuilder(createTestGeneration())
+      .setFitnessFunction(FITNESS_FUNCTION).setCrossoverRate(0.7).build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeCrossoverRate() {
+    new EvolutionEngineBuilder(createTestGeneration()).setCrossoverRate(-0.1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxConcurrentEvaluations() {
+    new EvolutionEngineBuilder(createTestGeneration())
+      .setEvaluationExecutor(Runnable::run, 0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testEvaluationPoolAndExecutor() {
+    new EvolutionEngineBuilder(createTestGeneration())
+      .setFitnessFunction(FITNESS_FUNCTION).setCrossoverRate(0.7)
+      .setMutationRate(0.1).setEvaluationPool(ForkJoinPool.commonPool())
+      .setEvaluationExecutor(Runnable::run, 1).build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBothFitnessFunctions() {
+    new EvolutionEngineBuilder(createTestGeneration())
+      .setFitnessFunction(FITNESS_FUNCTION)
+      .setAsyncFitnessFunction(
+        chromosome -> CompletableFuture.completedFuture(1.0))
+      .setCrossoverRate(0.7).setMutationRate(0.1).build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBreedingOperatorWithRecycling() {
+    new EvolutionEngineBuilder(createTestGeneration())
+      .setFitnessFunction(FITNESS_FUNCTION)
+      .setBreedingOperator(new DefaultBreedingOperator(0.7, 0.1, new Random()))
+      .setChromosomeRecyclingEnabled(true).build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBatchFitnessFunctionOnPool() {
+    new EvolutionEngineBuilder(createTestGeneration())
+      .setBatchFitnessFunction(IBatchFitnessFunction.of(FITNESS_FUNCTION))
+      .setCrossoverRate(0.7).setMutationRate(0.1)
+      .setEvaluationPool(ForkJoinPool.commonPool()).build();
+  }
+
+  @Test
+  public void testCustomStrategies() {
+    EvolutionEngine engine = new EvolutionEngineBuilder(createTestGeneration())
+      .setFitnessFunction(FITNESS_FUNCTION)
+      .setSelector(new DefaultSelector(new Random(1)))
+      .setCrossoverStrategy(new DefaultCrossoverStrategy(0.7, new Random(2)))
+      .setMutationStrategy(new DefaultMutationStrategy(0.1, new Random(3)))
+      .build();
+    assertNotNull(engine);
+  }
+
+  @Test
+  public void testBuild() {
+    Generation generation = createTestGeneration();
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      EvolutionEngine engine = new EvolutionEngineBuilder(generation)
+        .setFitnessFunction(FITNESS_FUNCTION).setCrossoverRate(0.7)
+        .setMutationRate(0.1).setElitismEnabled(true).setRandom(new Random(1))
+        .setEvaluationPool(pool).build();
+      assertEquals(generation, engine.getGeneration());
+      assertEquals(0, engine.step(4));
+      assertEquals(4, engine.getBestFitnessScore(), 0);
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -34,8 +34,16 @@ package com.algodesigner.genetic;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Test;
 
@@ -116,6 +124,518 @@ public class EvolutionEngineTest {
     assertEquals((double)1, engine.getBestFitnessScore(), 1e-8);
   }
 
+  @Test
+  public void testParallelEvaluation() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      EvolutionEngine sequential = new EvolutionEngine(
+        createInitialGeneration(), CROSSOVER_RATE, MUTATION_RATE,
+        fitnessFunction, true, new Random(SEED));
+      EvolutionEngine parallel = new EvolutionEngineBuilder(
+        createInitialGeneration()).setFitnessFunction(fitnessFunction)
+          .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setElitismEnabled(true).setRandom(new Random(SEED))
+          .setEvaluationPool(pool).build();
+
+      // Evaluation does not consume random numbers, so both engines must
+      // follow exactly the same trajectory
+      int expectedIndex = sequential.findSolution(1, TERMINATION_CRITERIA);
+      assertEquals(expectedIndex,
+        parallel.findSolution(1, TERMINATION_CRITERIA));
+      assertEquals(sequential.getGenerationCount(),
+        parallel.getGenerationCount());
+      assertEquals(sequential.getBestIndex(), parallel.getBestIndex());
+      assertEquals(sequential.getBestFitnessScore(),
+        parallel.getBestFitnessScore(), 0);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testParallelNaNScore() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      EvolutionEngine engine = new EvolutionEngineBuilder(
+        createInitialGeneration()).setFitnessFunction($ -> Double.NaN)
+          .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setEvaluationPool(pool).build();
+      engine.findSolution(1, TERMINATION_CRITERIA);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testCharChromosomes() {
+    Generation initialGeneration = createInitialGeneration();
+    Chromosome[] chromosomes = new Chromosome[initialGeneration.size()];
+    for (int i = 0; i < chromosomes.length; i++)
+      chromosomes[i] =
+        new CharChromosome(initialGeneration.getChromosome(i).toString());
+    EvolutionEngine engine = new EvolutionEngine(new Generation(chromosomes),
+      CROSSOVER_RATE, MUTATION_RATE, fitnessFunction, true, new Random(SEED));
+    engine.findSolution(1, TERMINATION_CRITERIA);
+    assertEquals((double)1, engine.getBestFitnessScore(), 1e-8);
+    assertTrue(
+      engine.getGeneration().getChromosome(0) instanceof CharChromosome);
+  }
+
+  @Test
+  public void testScoreReuse() {
+    AtomicLong evaluationCount = new AtomicLong();
+    IFitnessFunction countingFitnessFunction = chromosome -> {
+      evaluationCount.incrementAndGet();
+      return fitnessFunction.apply(chromosome);
+    };
+    EvolutionEngine engine = new EvolutionEngine(createInitialGeneration(),
+      CROSSOVER_RATE, MUTATION_RATE, countingFitnessFunction, true,
+      new Random(SEED));
+    int expectedIndex = engine.findSolution(1, TERMINATION_CRITERIA);
+    long expectedCount = evaluationCount.getAndSet(0);
+    assertEquals(0, engine.getEvaluationsSaved());
+
+    EvolutionEngine reusing = new EvolutionEngineBuilder(
+      createInitialGeneration()).setFitnessFunction(countingFitnessFunction)
+        .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+        .setElitismEnabled(true).setRandom(new Random(SEED))
+        .setScoreReuseEnabled(true).build();
+
+    // Reused scores do not change the trajectory, only the evaluation count
+    assertEquals(expectedIndex, reusing.findSolution(1, TERMINATION_CRITERIA));
+    assertEquals(engine.getGenerationCount(), reusing.getGenerationCount());
+    assertTrue(reusing.getEvaluationsSaved() > 0);
+    assertEquals(expectedCount,
+      evaluationCount.get() + reusing.getEvaluationsSaved());
+  }
+
+  @Test
+  public void testDeterministicMode() {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      EvolutionEngine sequential = new EvolutionEngineBuilder(
+        createInitialGeneration()).setFitnessFunction(fitnessFunction)
+          .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setElitismEnabled(true).setSeed(SEED).build();
+      EvolutionEngine parallel = new EvolutionEngineBuilder(
+        createInitialGeneration()).setFitnessFunction(fitnessFunction)
+          .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setElitismEnabled(true).setSeed(SEED).setEvaluationPool(pool)
+          .build();
+      for (int i = 0; i < 20; i++) {
+        sequential.step(2);
+        parallel.step(2);
+        assertEquals(sequential.getGeneration().toString(),
+          parallel.getGeneration().toString());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testExecutorEvaluation() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    IFitnessFunction blockingFitnessFunction = chromosome -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      running.decrementAndGet();
+      return fitnessFunction.apply(chromosome);
+    };
+    ExecutorService executorService = Executors.newCachedThreadPool();
+    try {
+      EvolutionEngine sequential = new EvolutionEngine(
+        createInitialGeneration(), CROSSOVER_RATE, MUTATION_RATE,
+        fitnessFunction, true, new Random(SEED));
+      EvolutionEngine concurrent = new EvolutionEngineBuilder(
+        createInitialGeneration()).setFitnessFunction(blockingFitnessFunction)
+          .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setElitismEnabled(true).setRandom(new Random(SEED))
+          .setEvaluationExecutor(executorService, 3).build();
+      for (int i = 0; i < 10; i++)
+        assertEquals(sequential.step(1), concurrent.step(1));
+      assertEquals(sequential.getGeneration().toString(),
+        concurrent.getGeneration().toString());
+      assertTrue(maxRunning.get() <= 3);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testExecutorNaNScore() {
+    EvolutionEngine engine = new EvolutionEngineBuilder(
+      createInitialGeneration()).setFitnessFunction($ -> Double.NaN)
+        .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+        .setEvaluationExecutor(Runnable::run, 1).build();
+    engine.step();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testExecutorFailure() {
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      EvolutionEngine engine = new EvolutionEngineBuilder(
+        createInitialGeneration()).setFitnessFunction($ -> {
+          throw new UnsupportedOperationException();
+        }).setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setEvaluationExecutor(executorService, 2).build();
+      engine.step();
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testExecutorFailureWaitsForTasks() throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger started = new AtomicInteger();
+    try {
+      EvolutionEngine engine = new EvolutionEngineBuilder(
+        createInitialGeneration()).setFitnessFunction(chromosome -> {
+          running.incrementAndGet();
+          try {
+            if (started.incrementAndGet() == 2)
+              throw new UnsupportedOperationException();
+            Thread.sleep(20);
+            return 1;
+          } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+          } finally {
+            running.decrementAndGet();
+          }
+        }).setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setEvaluationExecutor(executorService, 4).build();
+      try {
+        engine.step();
+        fail();
+      } catch (UnsupportedOperationException e) {
+        // No evaluation may still be running once the failure is rethrown
+        assertEquals(0, running.get());
+      }
+      // Nor may any evaluation start after it
+      int evaluations = started.get();
+      Thread.sleep(50);
+      assertEquals(evaluations, started.get());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testAsyncFitnessFunction() {
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      EvolutionEngine sequential = new EvolutionEngine(
+        createInitialGeneration(), CROSSOVER_RATE, MUTATION_RATE,
+        fitnessFunction, true, new Random(SEED));
+      EvolutionEngine async = new EvolutionEngineBuilder(
+        createInitialGeneration())
+          .setAsyncFitnessFunction(chromosome -> CompletableFuture
+            .supplyAsync(() -> fitnessFunction.apply(chromosome),
+              executorService))
+          .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setElitismEnabled(true).setRandom(new Random(SEED)).build();
+      int expectedIndex = sequential.findSolution(1, TERMINATION_CRITERIA);
+      assertEquals(expectedIndex, async.findSolution(1, TERMINATION_CRITERIA));
+      assertEquals(sequential.getGenerationCount(), async.getGenerationCount());
+      assertEquals(sequential.toString(), async.toString());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAsyncNaNScore() {
+    new EvolutionEngineBuilder(createInitialGeneration())
+      .setAsyncFitnessFunction(
+        $ -> CompletableFuture.completedFuture(Double.NaN))
+      .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE).build()
+      .step();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testAsyncFailure() {
+    CompletableFuture<Double> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new UnsupportedOperationException());
+    new EvolutionEngineBuilder(createInitialGeneration())
+      .setAsyncFitnessFunction($ -> failed).setCrossoverRate(CROSSOVER_RATE)
+      .setMutationRate(MUTATION_RATE).build().step();
+  }
+
+  @Test
+  public void testBatchFitnessFunction() {
+    AtomicInteger batchCount = new AtomicInteger();
+    IBatchFitnessFunction adapted = IBatchFitnessFunction.of(fitnessFunction);
+    IBatchFitnessFunction batchFitnessFunction = (generation, scores) -> {
+      batchCount.incrementAndGet();
+      adapted.applyAll(generation, scores);
+    };
+    EvolutionEngine sequential = new EvolutionEngine(createInitialGeneration(),
+      CROSSOVER_RATE, MUTATION_RATE, fitnessFunction, true, new Random(SEED));
+    EvolutionEngine batch = new EvolutionEngineBuilder(
+      createInitialGeneration()).setBatchFitnessFunction(batchFitnessFunction)
+        .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+        .setElitismEnabled(true).setRandom(new Random(SEED)).build();
+    int expectedIndex = sequential.findSolution(1, TERMINATION_CRITERIA);
+    assertEquals(expectedIndex, batch.findSolution(1, TERMINATION_CRITERIA));
+    assertEquals(sequential.getGenerationCount(), batch.getGenerationCount());
+    assertEquals(batch.getGenerationCount() + 1, batchCount.get());
+    assertEquals(sequential.toString(), batch.toString());
+  }
+
+  @Test
+  public void testBreedingOperator() {
+    Random random1 = new Random(SEED);
+    DefaultCrossoverStrategy crossoverStrategy =
+      new DefaultCrossoverStrategy(CROSSOVER_RATE, random1);
+    DefaultMutationStrategy mutationStrategy =
+      new DefaultMutationStrategy(MUTATION_RATE, random1);
+
+    // Strategies other than the default ones are applied separately
+    EvolutionEngine separate = new EvolutionEngine(createInitialGeneration(),
+      new DefaultSelector(random1), crossoverStrategy::crossover,
+      mutationStrategy::mutate, fitnessFunction, true);
+    Random random2 = new Random(SEED);
+    DefaultBreedingOperator operator =
+      new DefaultBreedingOperator(CROSSOVER_RATE, MUTATION_RATE, random2);
+    AtomicInteger breedCount = new AtomicInteger();
+    EvolutionEngine fused = new EvolutionEngineBuilder(
+      createInitialGeneration()).setFitnessFunction(fitnessFunction)
+        .setSelector(new DefaultSelector(random2))
+        .setBreedingOperator((parent1, parent2) -> {
+          breedCount.incrementAndGet();
+          return operator.breed(parent1, parent2);
+        }).setElitismEnabled(true).build();
+    for (int i = 0; i < 20; i++) {
+      assertEquals(separate.step(2), fused.step(2));
+      assertEquals(separate.getGeneration().toString(),
+        fused.getGeneration().toString());
+    }
+    assertTrue(breedCount.get() > 0);
+  }
+
+  @Test
+  public void testSelectorReturningCopies() {
+    Random random = new Random(SEED);
+    EvolutionEngine engine = new EvolutionEngineBuilder(
+      createInitialGeneration()).setFitnessFunction(fitnessFunction)
+        .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+        .setSelector((generation, fitnessScores) -> new ChromosomePair(
+          new Chromosome(generation.getChromosome(
+            random.nextInt(generation.size())).getGenes()),
+          new Chromosome(generation.getChromosome(
+            random.nextInt(generation.size())).getGenes())))
+        .setScoreReuseEnabled(true).build();
+    for (int i = 0; i < 10; i++)
+      engine.step(2);
+    assertEquals(10, engine.getGenerationCount());
+  }
+
+  @Test
+  public void testFitnessScores() {
+    AtomicInteger evaluationCount = new AtomicInteger();
+    EvolutionEngine engine = new EvolutionEngine(createInitialGeneration(),
+      CROSSOVER_RATE, MUTATION_RATE, chromosome -> {
+        evaluationCount.incrementAndGet();
+        return fitnessFunction.apply(chromosome);
+      }, true, new Random(SEED));
+    assertEquals(0, engine.getFitnessScores().length);
+    assertEquals(null, engine.getBestChromosome());
+    assertEquals(-1, engine.getBestIndex());
+    String report = engine.toString();
+    assertTrue(report.contains("Best index: -1"));
+    assertTrue(report.contains("(not evaluated)"));
+    assertEquals(0, evaluationCount.get());
+
+    for (int i = 0; i < 5; i++)
+      engine.step(2);
+    int count = evaluationCount.get();
+    double[] scores = engine.getFitnessScores();
+    assertEquals(engine.getGeneration().size(), scores.length);
+    assertEquals(engine.getBestFitnessScore(), scores[engine.getBestIndex()],
+      0);
+    assertEquals(engine.getBestFitnessScore(),
+      fitnessFunction.apply(engine.getBestChromosome()), 0);
+
+    // Reporting uses the stored scores of the evaluated generation
+    report = engine.toString();
+    assertEquals(count, evaluationCount.get());
+    assertTrue(report.contains(
+      "Generation #: " + (engine.getGenerationCount() - 1)));
+    assertTrue(!report.contains("NaN"));
+
+    // The returned scores are a copy
+    scores[0] = -1;
+    assertTrue(engine.getFitnessScores()[0] != -1);
+  }
+
+  @Test
+  public void testGenerationStats() {
+    EvolutionEngine engine = new EvolutionEngine(createInitialGeneration(),
+      CROSSOVER_RATE, MUTATION_RATE, fitnessFunction, true, new Random(SEED));
+    assertEquals(null, engine.getGenerationStats());
+    for (int i = 0; i < 5; i++) {
+      engine.step(2);
+      GenerationStats stats = engine.getGenerationStats();
+      GenerationStats expected =
+        GenerationStats.of(engine.getGenerationCount() - 1,
+          engine.getFitnessScores());
+      assertEquals(expected.getGeneration(), stats.getGeneration());
+      assertEquals(engine.getGeneration().size(), stats.getCount());
+      assertEquals(expected.getMin(), stats.getMin(), 0);
+      assertEquals(engine.getBestFitnessScore(), stats.getMax(), 0);
+      assertEquals(expected.getMean(), stats.getMean(), 1e-12);
+      assertEquals(expected.getVariance(), stats.getVariance(), 1e-12);
+    }
+
+    // A solution ends the statistics at the solving chromosome
+    int index = engine.step(-1);
+    assertEquals(index + 1, engine.getGenerationStats().getCount());
+  }
+
+  @Test
+  public void testGenerationStatsEarlyBreak() {
+    // The chromosome at index i scores i, so a target of 2 is reached at 2
+    AtomicInteger evaluations = new AtomicInteger();
+    EvolutionEngine sequential = new EvolutionEngineBuilder(
+      createInitialGeneration())
+        .setFitnessFunction($ -> evaluations.getAndIncrement())
+        .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+        .build();
+    EvolutionEngine batch = new EvolutionEngineBuilder(
+      createInitialGeneration()).setBatchFitnessFunction((generation,
+        scores) -> {
+          for (int i = 0; i < scores.length; i++)
+            scores[i] = i;
+        }).setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+        .build();
+    for (EvolutionEngine engine : new EvolutionEngine[] { sequential, batch })
+    {
+      assertEquals(2, engine.step(2));
+      GenerationStats stats = engine.getGenerationStats();
+      assertEquals(3, stats.getCount());
+      assertEquals(1, stats.getMean(), 0);
+      assertEquals(2, stats.getMax(), 0);
+    }
+  }
+
+  @Test
+  public void testBatchAdapter() {
+    Generation generation = createInitialGeneration();
+    double[] scores = new double[generation.size()];
+    Arrays.fill(scores, Double.NaN);
+    scores[1] = 7;
+    IBatchFitnessFunction.of(fitnessFunction).applyAll(generation, scores);
+    assertEquals(fitnessFunction.apply(generation.getChromosome(0)), scores[0],
+      0);
+    assertEquals(7, scores[1], 0);
+  }
+
+  @Test
+  public void testDoubleBuffering() {
+    checkDoubleBuffering(true, false, false);
+    checkDoubleBuffering(false, true, false);
+  }
+
+  @Test
+  public void testChromosomeRecycling() {
+    checkDoubleBuffering(true, false, true);
+    checkDoubleBuffering(false, true, true);
+    checkDoubleBuffering(true, true, true);
+  }
+
+  private static void checkDoubleBuffering(boolean elitism,
+    boolean scoreReuse, boolean recycling)
+  {
+    Generation initialGeneration = createInitialGeneration();
+    String initialString = initialGeneration.toString();
+    EvolutionEngine engine = new EvolutionEngineBuilder(
+      createInitialGeneration()).setFitnessFunction(fitnessFunction)
+        .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+        .setElitismEnabled(elitism).setRandom(new Random(SEED))
+        .setScoreReuseEnabled(scoreReuse).build();
+    EvolutionEngine buffered = new EvolutionEngineBuilder(initialGeneration)
+      .setFitnessFunction(fitnessFunction).setCrossoverRate(CROSSOVER_RATE)
+      .setMutationRate(MUTATION_RATE).setElitismEnabled(elitism)
+      .setRandom(new Random(SEED)).setScoreReuseEnabled(scoreReuse)
+      .setDoubleBufferingEnabled(true)
+      .setChromosomeRecyclingEnabled(recycling).build();
+    Generation snapshot = buffered.getGeneration();
+    for (int i = 0; i < 20; i++) {
+      assertEquals(engine.step(2), buffered.step(2));
+      assertEquals(engine.getGeneration().toString(),
+        buffered.getGeneration().toString());
+    }
+    assertEquals(engine.getEvaluationsSaved(), buffered.getEvaluationsSaved());
+
+    // Neither the initial generation nor earlier snapshots are overwritten
+    assertEquals(initialString, initialGeneration.toString());
+    assertEquals(initialString, snapshot.toString());
+    Generation last = buffered.getGeneration();
+    String lastString = last.toString();
+    buffered.step(2);
+    buffered.step(2);
+    assertEquals(lastString, last.toString());
+  }
+
+  @Test
+  public void testParallelBreeding() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      EvolutionEngine parallel = new EvolutionEngineBuilder(
+        createInitialGeneration()).setFitnessFunction(fitnessFunction)
+          .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+          .setElitismEnabled(true).setBreedingPool(pool).build();
+      parallel.findSolution(1, TERMINATION_CRITERIA);
+      assertEquals((double)1, parallel.getBestFitnessScore(), 1e-8);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testDeterministicParallelBreeding() {
+    for (int parallelism = 1; parallelism <= 4; parallelism++) {
+      ForkJoinPool pool = new ForkJoinPool(parallelism);
+      try {
+        EvolutionEngine parallel = new EvolutionEngineBuilder(
+          createInitialGeneration()).setFitnessFunction(fitnessFunction)
+            .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+            .setSeed(SEED).setScoreReuseEnabled(true).setBreedingPool(pool)
+            .build();
+        EvolutionEngine reference = new EvolutionEngineBuilder(
+          createInitialGeneration()).setFitnessFunction(fitnessFunction)
+            .setCrossoverRate(CROSSOVER_RATE).setMutationRate(MUTATION_RATE)
+            .setSeed(SEED).setScoreReuseEnabled(true).build();
+        for (int i = 0; i < 20; i++) {
+          reference.step(2);
+          parallel.step(2);
+          assertEquals(reference.getGeneration().toString(),
+            parallel.getGeneration().toString());
+        }
+        assertEquals(reference.getEvaluationsSaved(),
+          parallel.getEvaluationsSaved());
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDeterministicModeWithRandom() {
+    new EvolutionEngineBuilder(createInitialGeneration())
+      .setFitnessFunction(fitnessFunction).setCrossoverRate(CROSSOVER_RATE)
+      .setMutationRate(MUTATION_RATE).setRandom(new Random(SEED))
+      .setSeed(SEED).build();
+  }
+
   private static Generation createInitialGeneration() {
     GenerationBuilder builder = new GenerationBuilder();
 
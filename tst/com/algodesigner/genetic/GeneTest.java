@@ -34,6 +34,7 @@ package com.algodesigner.genetic;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -70,4 +71,29 @@ public class GeneTest {
     Gene gene2 = new Gene(Boolean.TRUE);
     assertEquals(gene1.hashCode(), gene2.hashCode());
   }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOfNullValue() {
+    Gene.of(null);
+  }
+
+  @Test
+  public void testOfSharedInstances() {
+    assertSame(Gene.of('A'), Gene.of('A'));
+    assertSame(Gene.of((byte)-7), Gene.of((byte)-7));
+    assertSame(Gene.of(true), Gene.of(Boolean.TRUE));
+    assertSame(Gene.of(42), Gene.of(42));
+    assertSame(Gene.of("ACGT"), Gene.of("ACGT"));
+  }
+
+  @Test
+  public void testOfValues() {
+    assertEquals(new Gene('A'), Gene.of('A'));
+    assertEquals(new Gene('\u20ac'), Gene.of('\u20ac'));
+    assertEquals(new Gene((byte)-128), Gene.of((byte)-128));
+    assertEquals(new Gene((byte)127), Gene.of((byte)127));
+    assertEquals(new Gene(false), Gene.of(false));
+    assertEquals(new Gene(3.5), Gene.of(3.5));
+    assertEquals(Character.valueOf('Z'), Gene.of('Z').getValue());
+  }
 }
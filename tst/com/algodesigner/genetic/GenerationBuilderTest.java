@@ -33,6 +33,8 @@
 package com.algodesigner.genetic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 
@@ -57,4 +59,16 @@ public class GenerationBuilderTest {
     assertEquals(0, generation.size());
     builder.addChromosome("ABCD");
   }
+
+  @Test
+  public void testAddChromosomes() {
+    GenerationBuilder builder = new GenerationBuilder();
+    builder.addChromosomes(4, "ABCA");
+    Generation generation = builder.build();
+    assertEquals(4, generation.size());
+    assertEquals("ABCA", generation.getChromosome(3).toString());
+    assertNotSame(generation.getChromosome(0), generation.getChromosome(1));
+    assertSame(generation.getChromosome(0).getGene(0),
+      generation.getChromosome(1).getGene(3));
+  }
 }
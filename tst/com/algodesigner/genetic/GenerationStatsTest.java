@@ -0,0 +1,81 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * GenerationStats test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class GenerationStatsTest {
+
+  @Test
+  public void testOf() {
+    double[] scores = { 2, 4, Double.NaN, 4, 4, 5, 5, 7, 9 };
+    GenerationStats stats = GenerationStats.of(3, scores);
+    assertEquals(3, stats.getGeneration());
+    assertEquals(8, stats.getCount());
+    assertEquals(2, stats.getMin(), 0);
+    assertEquals(9, stats.getMax(), 0);
+    assertEquals(5, stats.getMean(), 1e-12);
+    assertEquals(4, stats.getVariance(), 1e-12);
+    assertEquals(2, stats.getStandardDeviation(), 1e-12);
+  }
+
+  @Test
+  public void testStability() {
+    // Welford's algorithm keeps the variance of large, close scores
+    double[] scores = new double[1000];
+    for (int i = 0; i < scores.length; i++)
+      scores[i] = 1e9 + (i & 1);
+    GenerationStats stats = GenerationStats.of(0, scores);
+    assertEquals(1e9 + 0.5, stats.getMean(), 1e-6);
+    assertEquals(0.25, stats.getVariance(), 1e-6);
+  }
+
+  @Test
+  public void testEmpty() {
+    GenerationStats stats = GenerationStats.of(0, new double[] { Double.NaN });
+    assertEquals(0, stats.getCount());
+    assertTrue(Double.isNaN(stats.getMin()));
+    assertTrue(Double.isNaN(stats.getMax()));
+    assertTrue(Double.isNaN(stats.getMean()));
+    assertTrue(Double.isNaN(stats.getStandardDeviation()));
+  }
+}
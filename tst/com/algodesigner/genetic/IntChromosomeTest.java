@@ -0,0 +1,86 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * IntChromosome test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class IntChromosomeTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullArray() {
+    new IntChromosome(null);
+  }
+
+  @Test
+  public void testGenes() {
+    IntChromosome c = new IntChromosome(new int[] { 10, 20, 30 });
+    assertEquals(3, c.length());
+    assertEquals(20, c.getInt(1));
+    assertEquals(new Gene(20), c.getGene(1));
+    assertArrayEquals(new Gene[] { new Gene(10), new Gene(20), new Gene(30) },
+      c.getGenes());
+    assertArrayEquals(new int[] { 10, 20, 30 }, c.toIntArray());
+    assertEquals("102030", c.toString());
+  }
+
+  @Test
+  public void testCrossover() {
+    Chromosome c1 = new IntChromosome(new int[] { 1, 2, 3, 4 });
+    Chromosome c2 = new IntChromosome(new int[] { 5, 6, 7, 8 });
+    ChromosomePair pair = c1.crossover(c2, 1);
+    assertTrue(pair.getFirst() instanceof IntChromosome);
+    assertArrayEquals(new int[] { 1, 6, 7, 8 },
+      ((IntChromosome)pair.getFirst()).toIntArray());
+    assertArrayEquals(new int[] { 5, 2, 3, 4 },
+      ((IntChromosome)pair.getSecond()).toIntArray());
+  }
+
+  @Test
+  public void testSwapGenes() {
+    IntChromosome c = new IntChromosome(new int[] { 1, 2, 3, 4 });
+    Chromosome swapped = c.swapGenes(1, 3);
+    assertArrayEquals(new int[] { 1, 4, 3, 2 },
+      ((IntChromosome)swapped).toIntArray());
+    assertArrayEquals(new int[] { 1, 2, 3, 4 }, c.toIntArray());
+  }
+}
@@ -93,14 +93,14 @@ public class MaxAreaTest {
       if (chromosome.length() != 6)
         throw new IllegalArgumentException("Invalid chromosome");
 
-      final String cs = chromosome.toString();
+      final CharSequence cs = chromosome.getCharSequence();
 
       if (cs.length() != 6)
         throw new IllegalArgumentException("Invalid chromosome");
 
       // Decode X and Y
-      int x = Integer.valueOf(cs.substring(0, 3));
-      int y = Integer.valueOf(cs.substring(3, cs.length()));
+      int x = decode(cs, 0, 3);
+      int y = decode(cs, 3, cs.length());
 
       // Check the perimeter constraint
       if (x + y > perimeter)
@@ -109,6 +109,13 @@ public class MaxAreaTest {
       return sig(perimeter, x + y) * (double)x * (double)y;
     }
 
+    private static int decode(CharSequence cs, int start, int end) {
+      int value = 0;
+      for (int i = start; i < end; i++)
+        value = value * 10 + (cs.charAt(i) - '0');
+      return value;
+    }
+
     private static double sig(int n, double x) {
       return Math.tanh(x * 2.5 / (double)n);
     }
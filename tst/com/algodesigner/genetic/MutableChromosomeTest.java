@@ -0,0 +1,111 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * MutableChromosome test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class MutableChromosomeTest {
+
+  @Test
+  public void testSet() {
+    MutableChromosome chromosome = new MutableChromosome();
+    assertEquals(0, chromosome.length());
+    chromosome.set(new Chromosome("ABCDE"));
+    assertEquals("ABCDE", chromosome.toString());
+    chromosome.set(new MutableChromosome(new CharChromosome("XY")));
+    assertEquals("XY", chromosome.toString());
+    chromosome.setGene(0, Gene.of('Z'));
+    assertEquals("ZY", chromosome.toString());
+  }
+
+  @Test
+  public void testSetCrossover() {
+    Chromosome parent1 = new Chromosome("0000011111");
+    Chromosome parent2 = new Chromosome("abcdefghij");
+    ChromosomePair expected = parent1.crossover(parent2, 3);
+    MutableChromosome offspring1 = new MutableChromosome();
+    MutableChromosome offspring2 = new MutableChromosome();
+    offspring1.setCrossover(parent1, parent2, 3);
+    offspring2.setCrossover(parent2, parent1, 3);
+    assertEquals(expected.getFirst(), offspring1);
+    assertEquals(expected.getSecond(), offspring2);
+
+    // Recycled parents are copied directly
+    MutableChromosome offspring3 = new MutableChromosome();
+    offspring3.setCrossover(offspring1, offspring2, 5);
+    assertEquals("000de11111", offspring3.toString());
+
+    try {
+      offspring1.setCrossover(parent1, new Chromosome("01"), 1);
+      fail("Expected IncompatibleChromosomeException");
+    } catch (IncompatibleChromosomeException e) {
+    }
+  }
+
+  @Test
+  public void testSwapGenesInPlace() {
+    MutableChromosome chromosome = new MutableChromosome(new Chromosome("ABC"));
+    assertEquals("CBA", chromosome.swapGenes(0, 2).toString());
+    assertEquals("ABC", chromosome.toString());
+    chromosome.swapGenesInPlace(0, 2);
+    assertEquals("CBA", chromosome.toString());
+  }
+
+  @Test
+  public void testEqualsAfterModification() {
+    Chromosome immutable = new Chromosome("ABC");
+    MutableChromosome chromosome = new MutableChromosome(immutable);
+    assertTrue(chromosome.equals(immutable));
+    assertEquals(immutable.hashCode(), chromosome.hashCode());
+    chromosome.swapGenesInPlace(0, 1);
+    assertFalse(chromosome.equals(immutable));
+    assertFalse(immutable.equals(chromosome));
+
+    // The copy is unaffected by later modifications
+    Chromosome copy = chromosome.toChromosome();
+    chromosome.swapGenesInPlace(0, 1);
+    assertEquals("BAC", copy.toString());
+    assertEquals(immutable, chromosome);
+  }
+}
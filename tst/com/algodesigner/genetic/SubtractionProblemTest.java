@@ -97,7 +97,7 @@ public class SubtractionProblemTest {
         throw new IllegalArgumentException("Invalid chromosome legnth "
           + chromosome.length() + ", expected " + CHROMOSOME_LENGTH);
 
-      final String cs = chromosome.toString();
+      final CharSequence cs = chromosome.getCharSequence();
 
       if (cs.length() != CHROMOSOME_LENGTH)
         throw new IllegalArgumentException("Broken chromosome");
@@ -108,15 +108,25 @@ public class SubtractionProblemTest {
       int c = cs.charAt(2) - '0';
 
       int op = (c * 100 + b * 10 + a) - (a * 100 + b * 10 + c);
-      String ops = String.valueOf(op);
 
-      double c1 = ops.indexOf(cs.charAt(0)) != -1 ? 1 : 0;
-      double c2 = ops.indexOf(cs.charAt(1)) != -1 ? 1 : 0;
-      double c3 = ops.indexOf(cs.charAt(2)) != -1 ? 1 : 0;
+      double c1 = containsDigit(op, a) ? 1 : 0;
+      double c2 = containsDigit(op, b) ? 1 : 0;
+      double c3 = containsDigit(op, c) ? 1 : 0;
       double c4 = (a != b && b != c) ? 1 : 0;
       double c5 = op > 0 ? 1 : 0;
 
       return (c1 + c2 + c3 + c4 + c5) / 5;
     }
+
+    // Tests if the decimal representation of a value contains a digit
+    private static boolean containsDigit(int value, int digit) {
+      value = Math.abs(value);
+      do {
+        if (value % 10 == digit)
+          return true;
+        value /= 10;
+      } while (value != 0);
+      return false;
+    }
   }
 }
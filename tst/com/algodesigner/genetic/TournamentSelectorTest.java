@@ -0,0 +1,156 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2008-2023, Vlad Shurupov
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.algodesigner.genetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * TournamentSelector test.
+ * 
+ * @author Vlad Shurupov
+ * @version 1.0
+ */
+public class TournamentSelectorTest {
+
+  private static Generation createTestGeneration(int size) {
+    Chromosome[] chromosomes = new Chromosome[size];
+    for (int i = 0; i < size; i++)
+      chromosomes[i] = new Chromosome(Integer.toString(i));
+    return new Generation(chromosomes);
+  }
+
+  @Test
+  public void testConstructorDefaultRandom() {
+    assertNotNull(new TournamentSelector(3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorZeroTournamentSize() {
+    new TournamentSelector(0);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testConstructorNullRandom() {
+    new TournamentSelector(3, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSelectScoresTooShort() {
+    new TournamentSelector(3).select(createTestGeneration(2),
+      new double[] { 1 });
+  }
+
+  @Test
+  public void testSelectWinner() {
+    // The first two contenders of each tournament are 1 and 3
+    Random random = new Random() {
+      private static final long serialVersionUID = 1L;
+      private int callCount;
+
+      @Override
+      public int nextInt(int bound) {
+        return callCount++ % 2 == 0 ? 1 : 3;
+      }
+    };
+    TournamentSelector selector = new TournamentSelector(2, random);
+    Generation generation = createTestGeneration(4);
+    ChromosomePair pair =
+      selector.select(generation, new double[] { 0, -2, 0, -1 });
+
+    // Both tournaments are won by 3, so the second parent is shifted
+    assertSame(generation.getChromosome(3), pair.getFirst());
+    assertSame(generation.getChromosome(0), pair.getSecond());
+  }
+
+  @Test
+  public void testSelectDifferentParents() {
+    TournamentSelector selector = new TournamentSelector(8, new Random(12345));
+    Generation generation = createTestGeneration(4);
+    double[] fitnessScores = { 1000, 0.001, 0.001, 0.001 };
+    for (int i = 0; i < 1000; i++) {
+      ChromosomePair pair = selector.select(generation, fitnessScores);
+      assertNotSame(pair.getFirst(), pair.getSecond());
+    }
+  }
+
+  @Test
+  public void testSelectionPressure() {
+    Generation generation = createTestGeneration(10);
+    double[] fitnessScores = new double[10];
+    for (int i = 0; i < fitnessScores.length; i++)
+      fitnessScores[i] = i;
+
+    // The fittest chromosome wins far more often in larger tournaments
+    assertTrue(countFittest(1, generation, fitnessScores) < countFittest(5,
+      generation, fitnessScores));
+    assertEquals(1000, countFittest(1000, generation, fitnessScores));
+  }
+
+  @Test
+  public void testSelectIndicesMatchesSelect() {
+    Generation generation = createTestGeneration(10);
+    double[] fitnessScores = { 5, 3, 8, 1, 9, 2, 7, 4, 6, 0 };
+    TournamentSelector selector1 = new TournamentSelector(3, new Random(1));
+    TournamentSelector selector2 = new TournamentSelector(3, new Random(1));
+    int[] indices = new int[200];
+    selector1.selectIndices(generation, fitnessScores, 100, indices);
+    for (int k = 0; k < 100; k++) {
+      ChromosomePair pair = selector2.select(generation, fitnessScores);
+      assertSame(generation.getChromosome(indices[2 * k]), pair.getFirst());
+      assertSame(generation.getChromosome(indices[2 * k + 1]),
+        pair.getSecond());
+    }
+  }
+
+  private static int countFittest(int tournamentSize, Generation generation,
+    double[] fitnessScores)
+  {
+    TournamentSelector selector =
+      new TournamentSelector(tournamentSize, new Random(12345));
+    int count = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (selector.select(generation, fitnessScores)
+        .getFirst() == generation.getChromosome(9))
+        count++;
+    }
+    return count;
+  }
+}